@@ -297,7 +297,68 @@ ALTER TABLE chat_messages
 DROP FOREIGN KEY chat_messages_ibfk_1;
 ALTER TABLE chat_messages
 MODIFY session_id VARCHAR(100) NULL;
-SHOW CREATE TABLE chat_messages
+SHOW CREATE TABLE chat_messages;
 
+-- =====================================================
+-- Batched chat_messages inserts
+-- Ids come from a pooled generator (blocks of 50), which
+-- MySQL emulates with this one-row table. Seed it past the
+-- existing ids: the first block handed out ends at next_val.
+-- =====================================================
+CREATE TABLE chat_messages_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO chat_messages_seq (next_val)
+SELECT COALESCE(MAX(message_id), 0) + 51 FROM chat_messages;
+
+-- =====================================================
+-- Chat history pages
+-- GET /api/chat/history seeks on (user_id, created_at,
+-- message_id) newest first; this index serves it as a
+-- range scan instead of a full table scan and sort.
+-- =====================================================
+CREATE INDEX idx_chat_messages_user_created
+ON chat_messages (user_id, created_at, message_id);
+
+-- =====================================================
+-- Keyword catalog
+-- The backend merges keywords mapped here into its
+-- built-in catalog, refreshing every few minutes.
+-- domain_code ties a category to the backend's guidance;
+-- categories without one are not used for detection.
+-- =====================================================
+ALTER TABLE legal_categories
+ADD COLUMN domain_code VARCHAR(50) NULL;
+
+UPDATE legal_categories SET domain_code = 'CONSTITUTIONAL_LAW' WHERE category_name = 'Constitutional Law';
+UPDATE legal_categories SET domain_code = 'CRIMINAL_LAW' WHERE category_name = 'Criminal Law';
+UPDATE legal_categories SET domain_code = 'PROPERTY_LAW' WHERE category_name = 'Property Law';
+UPDATE legal_categories SET domain_code = 'FAMILY_LAW' WHERE category_name = 'Family Law';
+UPDATE legal_categories SET domain_code = 'LABOR_LAW' WHERE category_name = 'Labour Law';
+UPDATE legal_categories SET domain_code = 'CONSUMER_LAW' WHERE category_name = 'Consumer Law';
+UPDATE legal_categories SET domain_code = 'CYBER_LAW' WHERE category_name = 'Cyber Law';
+UPDATE legal_categories SET domain_code = 'INTELLECTUAL_PROPERTY' WHERE category_name = 'Intellectual Property';
+UPDATE legal_categories SET domain_code = 'ENVIRONMENTAL_LAW' WHERE category_name = 'Environmental Law';
+-- Administrative Law has no guidance yet and stays unmapped
+
+-- =====================================================
+-- Detected domains
+-- domain_mask is the set of legal domains a message was
+-- about, one bit per domain code in alphabetical order:
+-- CONSTITUTIONAL_LAW = 1, CONSUMER_LAW = 2, CRIMINAL_LAW = 4,
+-- CYBER_LAW = 8, ENVIRONMENTAL_LAW = 16, FAMILY_LAW = 32,
+-- INTELLECTUAL_PROPERTY = 64, LABOR_LAW = 128,
+-- PROPERTY_LAW = 256, TAX_LAW = 512, TORT_LAW = 1024.
+-- Existing rows stay NULL until the backend backfills them
+-- in batches after startup. Per-domain counts for a time
+-- range read only idx_chat_messages_created_domain.
+-- =====================================================
+ALTER TABLE chat_messages
+ADD COLUMN domain_mask INT NULL;
 
+CREATE INDEX idx_chat_messages_created_domain
+ON chat_messages (created_at, domain_mask);
 
+-- e.g. CYBER_LAW questions in the last 7 days
+-- SELECT COUNT(*) FROM chat_messages
+-- WHERE created_at >= NOW() - INTERVAL 7 DAY AND domain_mask & 8 <> 0;
@@ -0,0 +1,91 @@
+package com.lawblox.benchmark;
+
+import java.util.List;
+
+/**
+ * Representative chat queries, grouped the way traffic shows up from the app
+ */
+public final class ChatCorpus {
+
+    public enum QueryKind {
+        SHORT, LONG, GREETING, NO_MATCH, TYPO
+    }
+
+    private static final List<String> SHORT = List.of(
+        "My landlord is threatening eviction",
+        "Police refused to register my FIR",
+        "I want a divorce by mutual consent",
+        "Lost money in UPI fraud yesterday",
+        "Received a GST notice for my shop",
+        "Employer has not paid my salary for 3 months",
+        "Neighbour built a wall on my land, encroachment",
+        "Defective product, seller refuses refund",
+        "Got a tax notice for ITR mismatch",
+        "Company is using my logo, trademark issue",
+        "Factory causing air pollution near school",
+        "Doctor negligence during surgery"
+    );
+
+    private static final List<String> LONG = List.of(
+        "Respected sir, I am writing because for the last two years I have been living as a tenant in a flat "
+            + "in Pune. The landlord took a security deposit of two lakh rupees and we signed a lease agreement "
+            + "for eleven months which was renewed twice. Now he is suddenly asking me to vacate within seven days "
+            + "and says he will keep the deposit because of some damage to the kitchen which was already there when "
+            + "I moved in. He also cut the electricity twice and threatened to call the police. I have all the rent "
+            + "receipts and bank transfer records. Can he do this eviction without notice and what should I do?",
+        "My husband and his family have been harassing me for dowry since our marriage in 2019. There has been "
+            + "physical cruelty and last month I was thrown out of the house with my child. I went to the police "
+            + "station but they only wrote a complaint and did not file an FIR. I want to know about domestic "
+            + "violence protection, maintenance for me and my daughter, and whether I can get custody. I am also "
+            + "thinking about divorce but I am worried about how long the court process will take and the cost.",
+        "Yesterday I got a call from someone saying they were from my bank and that my KYC was pending. They sent "
+            + "a link on WhatsApp and after I entered the details, forty thousand rupees was debited through UPI in "
+            + "three transactions. I have screenshots of the chat and the phone number. The bank says they cannot "
+            + "reverse it. Is this online fraud or phishing, should I go to the cyber cell, and can I claim a refund "
+            + "from the bank? Also someone hacked my email the same day, could it be identity theft?",
+        "I worked in a private company in Bengaluru for six years. Last week HR called me and gave a termination "
+            + "letter without any enquiry or notice period, and they are also refusing to release my gratuity and "
+            + "the last two months of salary. My PF has not been deposited for the last year either, I checked on "
+            + "the EPFO portal. My manager also made comments that I think count as harassment at work. What are my "
+            + "options under labour law and which labour court or authority should I approach first?"
+    );
+
+    private static final List<String> GREETING = List.of(
+        "hi",
+        "Hello",
+        "hey there",
+        "Good morning",
+        "namaste",
+        "good evening, anyone there?"
+    );
+
+    private static final List<String> NO_MATCH = List.of(
+        "What is the weather like today?",
+        "Recommend a good book to read",
+        "How many players are in a cricket team",
+        "what are the opening times",
+        "Please tell me about the app"
+    );
+
+    // Misspelled keywords the exact matcher misses
+    private static final List<String> TYPO = List.of(
+        "landlord gave evicton notice",
+        "how to file devorce",
+        "who gets custdy of my son",
+        "my employer witheld my salry, is this harrassment",
+        "received a consumer complant reply"
+    );
+
+    private ChatCorpus() {
+    }
+
+    public static List<String> queries(QueryKind kind) {
+        return switch (kind) {
+            case SHORT -> SHORT;
+            case LONG -> LONG;
+            case GREETING -> GREETING;
+            case NO_MATCH -> NO_MATCH;
+            case TYPO -> TYPO;
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.lawblox.service;
+
+import com.lawblox.benchmark.ChatCorpus;
+import com.lawblox.benchmark.ChatCorpus.QueryKind;
+import com.lawblox.metrics.PipelineMetrics;
+import com.lawblox.model.User;
+import com.lawblox.repository.ChatMessageRepository;
+import com.lawblox.repository.UserRepository;
+import com.lawblox.security.AuthenticatedUser;
+import com.lawblox.service.caselaw.CaseLawSearchBenchmark;
+import com.lawblox.util.PreEncodedJson;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChatPipelineBenchmark {
+
+    private static final String EMAIL = "bench@lawblox.in";
+
+    @Param({"SHORT", "LONG", "GREETING", "NO_MATCH", "TYPO"})
+    public QueryKind kind;
+
+    private ChatHistoryWriter historyWriter;
+    private LegalChatService service;
+    private AuthenticatedUser principal;
+    private String[] queries;
+    private String[] normalized;
+    private List<Detection> detected;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).firstName("Asha").email(EMAIL).isActive(true).build();
+        historyWriter = new ChatHistoryWriter(stub(ChatMessageRepository.class, null), stub(UserRepository.class, user),
+                TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(),
+                10_000, 50, Duration.ofMillis(200), Duration.ofSeconds(10));
+        historyWriter.start();
+        service = new LegalChatService(historyWriter,
+                new GuidanceResponseCache(new SimpleMeterRegistry(), 1000, Duration.ofHours(1)),
+                new KeywordCatalog(null),  // built-in keywords; never refreshed here
+                CaseLawSearchBenchmark.shippedCorpus(),
+                new FuzzyKeywordDetector(new SimpleMeterRegistry(), true, Duration.ofMillis(1)),
+                new PipelineMetrics(new SimpleMeterRegistry()));
+        principal = new AuthenticatedUser(user.getId(), user.getEmail(), user.getFirstName());
+
+        queries = ChatCorpus.queries(kind).toArray(new String[0]);
+        normalized = new String[queries.length];
+        detected = new ArrayList<>();
+        for (int i = 0; i < queries.length; i++) {
+            normalized[i] = MessageNormalizer.normalize(queries[i]);
+            detected.add(service.detectKeywordsAndDomains(normalized[i]));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        historyWriter.stop();
+    }
+
+    @Benchmark
+    public PreEncodedJson processMessage() {
+        return service.processMessage(queries[nextIndex()], principal);
+    }
+
+    // processMessage plus writing the body, as the controller's message converter does
+    @Benchmark
+    public int writeResponse() throws IOException {
+        PreEncodedJson body = service.processMessage(queries[nextIndex()], principal);
+        body.writeTo(OutputStream.nullOutputStream());
+        return body.contentLength();
+    }
+
+    @Benchmark
+    public Detection detectKeywordsAndDomains() {
+        return service.detectKeywordsAndDomains(normalized[nextIndex()]);
+    }
+
+    // Uncached assembly; processMessage serves repeats from GuidanceResponseCache
+    @Benchmark
+    public RenderedGuidance renderGuidance() {
+        Detection detection = detected.get(nextIndex());
+        return service.renderGuidance(detection.domains(), detection.keywords());
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = i + 1 == queries.length ? 0 : i + 1;
+        return i;
+    }
+
+    /**
+     * Repository stand-in: finders return the benchmark user, saves echo their argument
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> repository, User user) {
+        return (T) Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmail" -> Optional.ofNullable(user);
+                    case "getReferenceById", "getById" -> user;
+                    case "save", "saveAll" -> args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> repository.getSimpleName() + " stub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
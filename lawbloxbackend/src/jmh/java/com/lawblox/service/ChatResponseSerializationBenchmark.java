@@ -0,0 +1,130 @@
+package com.lawblox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lawblox.benchmark.ChatCorpus;
+import com.lawblox.benchmark.ChatCorpus.QueryKind;
+import com.lawblox.dto.ChatResponse;
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.util.ChatJson;
+import com.lawblox.util.PreEncodedJson;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing one /api/chat/message body three ways: the Map-based response
+ * (eight suggestion fields, nulls included) through a plain ObjectMapper, the
+ * typed ChatResponse through ChatJson.WRITER, and the pre-encoded body.
+ * Payload sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChatResponseSerializationBenchmark {
+
+    @Param({"SHORT", "LONG"})
+    public QueryKind kind;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream(16 * 1024);
+
+    private String[] texts;
+    private List<List<String>> domains;
+    private List<List<LegalCaseSuggestion>> suggestions;
+    private List<List<Map<String, Object>>> legacySuggestions;
+    private PreEncodedJson[] bodies;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        LegalChatService service = new LegalChatService(null, null, new KeywordCatalog(null), null,
+                new FuzzyKeywordDetector(new SimpleMeterRegistry(), true, Duration.ofMillis(1)), null);
+        List<String> queries = ChatCorpus.queries(kind);
+        texts = new String[queries.size()];
+        bodies = new PreEncodedJson[queries.size()];
+        domains = new ArrayList<>();
+        suggestions = new ArrayList<>();
+        legacySuggestions = new ArrayList<>();
+        for (int i = 0; i < queries.size(); i++) {
+            Detection detected = service.detectKeywordsAndDomains(MessageNormalizer.normalize(queries.get(i)));
+            RenderedGuidance guidance = service.renderGuidance(detected.domains(), detected.keywords());
+            texts[i] = guidance.getText();
+            bodies[i] = guidance.getJson();
+            domains.add(detected.domains().stream().map(Enum::name).toList());
+            suggestions.add(guidance.getSuggestions());
+            legacySuggestions.add(guidance.getSuggestions().stream().map(ChatResponseSerializationBenchmark::legacy).toList());
+        }
+
+        long mapBytes = 0;
+        long typedBytes = 0;
+        long preEncodedBytes = 0;
+        for (int i = 0; i < texts.length; i++) {
+            mapBytes += mapper.writeValueAsBytes(legacyResponse(i)).length;
+            typedBytes += ChatJson.writeBytes(typedResponse(i)).length;
+            preEncodedBytes += bodies[i].contentLength();
+        }
+        System.out.printf("%n%s payload bytes per response: map=%d typed=%d preEncoded=%d%n", kind,
+                mapBytes / texts.length, typedBytes / texts.length, preEncodedBytes / texts.length);
+    }
+
+    @Benchmark
+    public int map() throws IOException {
+        sink.reset();
+        mapper.writeValue(sink, legacyResponse(nextIndex()));
+        return sink.size();
+    }
+
+    @Benchmark
+    public int typed() throws IOException {
+        sink.reset();
+        ChatJson.WRITER.writeValue(sink, typedResponse(nextIndex()));
+        return sink.size();
+    }
+
+    @Benchmark
+    public int preEncoded() throws IOException {
+        sink.reset();
+        bodies[nextIndex()].writeTo(sink);
+        return sink.size();
+    }
+
+    private Map<String, Object> legacyResponse(int i) {
+        return Map.of(
+            "response", texts[i],
+            "detectedDomains", domains.get(i),
+            "suggestedCases", legacySuggestions.get(i)
+        );
+    }
+
+    private ChatResponse typedResponse(int i) {
+        return new ChatResponse(texts[i], domains.get(i), suggestions.get(i));
+    }
+
+    // The suggestion as the mutable eight-field bean serialized it
+    private static Map<String, Object> legacy(LegalCaseSuggestion suggestion) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("caseName", suggestion.getCaseName());
+        fields.put("caseUrl", suggestion.getCaseUrl());
+        fields.put("relevance", null);
+        fields.put("legalDomain", null);
+        fields.put("actionAdvice", null);
+        fields.put("keyTakeaway", suggestion.getKeyTakeaway());
+        fields.put("domain", suggestion.getDomain());
+        fields.put("practicalAdvice", suggestion.getPracticalAdvice());
+        return fields;
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = i + 1 == texts.length ? 0 : i + 1;
+        return i;
+    }
+}
@@ -0,0 +1,57 @@
+package com.lawblox.service.caselaw;
+
+import com.lawblox.benchmark.ChatCorpus;
+import com.lawblox.benchmark.ChatCorpus.QueryKind;
+import com.lawblox.service.MessageNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one BM25 query against the shipped corpus, memory-mapped
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CaseLawSearchBenchmark {
+
+    @Param({"SHORT", "LONG", "NO_MATCH"})
+    public QueryKind kind;
+
+    private CaseLawSearch search;
+    private String[] normalized;
+    private int next;
+
+    /**
+     * CaseLawSearch over classpath:caselaw/, indexed into a fresh temporary directory
+     */
+    public static CaseLawSearch shippedCorpus() {
+        try {
+            return new CaseLawSearch(new PathMatchingResourcePatternResolver(), true,
+                    new String[]{"classpath*:caselaw/*.jsonl"}, Files.createTempDirectory("caselaw-bench"), 3, 4.0f, 0.6f);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        search = shippedCorpus();
+        normalized = ChatCorpus.queries(kind).stream().map(MessageNormalizer::normalize).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public CaseLawResult search() {
+        int i = next;
+        next = i + 1 == normalized.length ? 0 : i + 1;
+        return search.search(normalized[i], List.of());
+    }
+}
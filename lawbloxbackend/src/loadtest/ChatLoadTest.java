@@ -0,0 +1,242 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load generator for /api/chat/message: each simulated mobile
+ * client sends a question, waits for the answer, "reads" it for a random
+ * think time and asks again. Needs Java 21 (clients are virtual threads).
+ *
+ *   java src/loadtest/ChatLoadTest.java --clients=5000 --duration=120s
+ *
+ * See README.md next to this file for the platform vs virtual thread runs.
+ */
+public class ChatLoadTest {
+
+    private static final String PASSWORD = "LoadTest123!";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final String[] QUESTIONS = {
+            "My landlord is threatening eviction without notice, what can I do?",
+            "Police refused to register my FIR for theft",
+            "How do I file for divorce and get custody of my child?",
+            "My employer has not paid my salary for three months",
+            "I bought a defective phone and the seller refuses a refund",
+            "Someone hacked my account and is posting my photos",
+            "hello",
+            "what can you help me with",
+            "Can my neighbour build on land that belongs to me?",
+            "Received an income tax notice for unreported interest",
+    };
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String metricsUrl = options.getOrDefault("metrics-url", "http://localhost:8081/actuator/prometheus");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "5000"));
+        int accounts = Integer.parseInt(options.getOrDefault("accounts", "50"));
+        Duration duration = duration(options.getOrDefault("duration", "120s"));
+        Duration ramp = duration(options.getOrDefault("ramp", "30s"));
+        Duration minThink = duration(options.getOrDefault("think-min", "1s"));
+        Duration maxThink = duration(options.getOrDefault("think-max", "3s"));
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        System.out.printf("Logging in %d accounts...%n", accounts);
+        String[] tokens = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            tokens[i] = token(http, baseUrl, "loadtest-" + i + "@lawblox.test");
+        }
+
+        System.out.printf("%d clients for %s (ramp %s, think %s-%s) against %s%n",
+                clients, duration, ramp, minThink, maxThink, baseUrl);
+        long start = System.nanoTime();
+        long measureFrom = start + ramp.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<long[]> latencies = new ArrayList<>(clients);
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                long[] samples = new long[1024];
+                latencies.add(samples);
+                String token = tokens[c % accounts];
+                long startAt = start + ramp.toNanos() * c / clients;
+                executor.submit(() -> runClient(http, baseUrl, token, startAt, measureFrom, end,
+                        minThink, maxThink, samples, failures));
+            }
+        }
+
+        report(latencies, failures, duration);
+        System.out.println(scrape(http, metricsUrl));
+    }
+
+    // samples[0] is the count; the rest are latencies in microseconds
+    private static void runClient(HttpClient http, String baseUrl, String token, long startAt, long measureFrom,
+                                  long end, Duration minThink, Duration maxThink, long[] samples,
+                                  Map<String, LongAdder> failures) {
+        sleepUntil(startAt);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end) {
+            String question = QUESTIONS[random.nextInt(QUESTIONS.length)];
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/chat/message"))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"" + question + "\"}"))
+                    .build();
+            long sent = System.nanoTime();
+            String failure = null;
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    failure = "HTTP " + response.statusCode();
+                }
+            } catch (Exception e) {
+                failure = e.getClass().getSimpleName();
+            }
+            long received = System.nanoTime();
+            if (sent >= measureFrom && received <= end) {
+                if (failure != null) {
+                    failures.computeIfAbsent(failure, k -> new LongAdder()).increment();
+                } else {
+                    record(samples, (received - sent) / 1000);
+                }
+            }
+            long think = minThink.toNanos() + random.nextLong(Math.max(1, maxThink.toNanos() - minThink.toNanos()));
+            sleepUntil(Math.min(end, received + think));
+        }
+    }
+
+    private static void record(long[] samples, long micros) {
+        int count = (int) samples[0];
+        if (count + 1 < samples.length) {
+            samples[count + 1] = micros;
+            samples[0] = count + 1;
+        }
+    }
+
+    private static void report(List<long[]> latencies, Map<String, LongAdder> failures, Duration duration) {
+        int total = 0;
+        for (long[] samples : latencies) {
+            total += (int) samples[0];
+        }
+        long[] all = new long[total];
+        int n = 0;
+        for (long[] samples : latencies) {
+            System.arraycopy(samples, 1, all, n, (int) samples[0]);
+            n += (int) samples[0];
+        }
+        Arrays.sort(all);
+        long errors = failures.values().stream().mapToLong(LongAdder::sum).sum();
+        System.out.printf("%nok=%d errors=%d throughput=%.1f req/s%n",
+                total, errors, total / (double) duration.toSeconds());
+        if (total > 0) {
+            System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                    percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                    percentile(all, 0.999), all[all.length - 1] / 1000.0);
+        }
+        failures.forEach((failure, count) -> System.out.printf("  %s: %d%n", failure, count.sum()));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1000.0;
+    }
+
+    // Pool and pinning figures, when the management port is reachable
+    private static String scrape(HttpClient http, String metricsUrl) {
+        try {
+            String metrics = http.send(HttpRequest.newBuilder(URI.create(metricsUrl)).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            StringBuilder lines = new StringBuilder("server:");
+            for (String line : metrics.split("\n")) {
+                if (line.startsWith("lawblox_virtual_threads_pinned_total")
+                        || line.startsWith("hikaricp_connections_pending")
+                        || line.startsWith("hikaricp_connections_timeout_total")
+                        || line.startsWith("lawblox_datasource_permits_waiting")
+                        || line.startsWith("lawblox_chat_history_caller_runs_total")
+                        || line.startsWith("jvm_threads_live_threads")) {
+                    lines.append("\n  ").append(line);
+                }
+            }
+            return lines.toString();
+        } catch (Exception e) {
+            return "server: metrics unavailable (" + e.getMessage() + ")";
+        }
+    }
+
+    private static String token(HttpClient http, String baseUrl, String email) throws Exception {
+        String credentials = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> login = post(http, baseUrl + "/api/auth/login", credentials);
+        if (login.statusCode() != 200) {
+            post(http, baseUrl + "/api/auth/signup",
+                    "{\"firstName\":\"Load\",\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+            login = post(http, baseUrl + "/api/auth/login", credentials);
+        }
+        Matcher token = TOKEN.matcher(login.body());
+        if (!token.find()) {
+            throw new IllegalStateException("Login failed for " + email + ": " + login.body());
+        }
+        return token.group(1);
+    }
+
+    private static HttpResponse<String> post(HttpClient http, String url, String json) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+}
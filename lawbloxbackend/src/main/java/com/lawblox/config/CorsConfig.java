@@ -24,7 +24,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins("*")  // Allow all origins (Android app)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
-                .exposedHeaders("Authorization", "Content-Type")
+                .exposedHeaders("Authorization", "Content-Type", "Server-Timing")
                 .allowCredentials(false)
                 .maxAge(3600);
     }
@@ -51,14 +51,16 @@ public class CorsConfig implements WebMvcConfigurer {
             "Content-Type",
             "Accept",
             "X-Requested-With",
-            "Cache-Control"
+            "Cache-Control",
+            "X-Server-Timing"
         ));
         
         // Expose headers to client
         configuration.setExposedHeaders(Arrays.asList(
             "Authorization",
             "Content-Type",
-            "X-Total-Count"
+            "X-Total-Count",
+            "Server-Timing"
         ));
         
         // Allow credentials (cookies, authorization headers)
@@ -94,6 +96,7 @@ public class CorsConfig implements WebMvcConfigurer {
         
         // Expose Authorization header for JWT tokens
         config.addExposedHeader("Authorization");
+        config.addExposedHeader("Server-Timing");
         
         // Set to true if using cookies/sessions
         config.setAllowCredentials(false);
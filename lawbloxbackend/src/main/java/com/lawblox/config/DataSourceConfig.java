@@ -0,0 +1,53 @@
+package com.lawblox.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * With virtual threads (spring.threads.virtual.enabled on Java 21+), requests
+     * are no longer capped by Tomcat's thread pool; cap connection checkouts at
+     * the Hikari pool size instead. Size the pool for the database, not for the
+     * number of requests: spring.datasource.hikari.maximum-pool-size.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                            Duration.ofMillis(hikari.getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limited) {
+                Gauge.builder("lawblox.datasource.permits.waiting", limited, ConnectionLimitingDataSource::getWaiting)
+                        .description("Threads queued for a database connection permit")
+                        .register(registry);
+                Gauge.builder("lawblox.datasource.permits.available", limited, ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("Connection permits not in use")
+                        .register(registry);
+            }
+        };
+    }
+}
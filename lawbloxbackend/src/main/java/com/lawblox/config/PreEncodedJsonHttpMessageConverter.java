@@ -0,0 +1,52 @@
+package com.lawblox.config;
+
+import com.lawblox.metrics.PipelineMetrics;
+import com.lawblox.metrics.PipelineMetrics.Stage;
+import com.lawblox.util.PreEncodedJson;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes PreEncodedJson bodies byte for byte, with a Content-Length
+ */
+public class PreEncodedJsonHttpMessageConverter extends AbstractHttpMessageConverter<PreEncodedJson> {
+
+    private final PipelineMetrics metrics;
+
+    public PreEncodedJsonHttpMessageConverter(PipelineMetrics metrics) {
+        super(MediaType.APPLICATION_JSON);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreEncodedJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreEncodedJson readInternal(Class<? extends PreEncodedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PreEncodedJson is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(PreEncodedJson body, MediaType contentType) {
+        return (long) body.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(PreEncodedJson body, HttpOutputMessage outputMessage) throws IOException {
+        long started = System.nanoTime();
+        body.writeTo(outputMessage.getBody());
+        metrics.record(Stage.SERIALIZE, started);
+    }
+}
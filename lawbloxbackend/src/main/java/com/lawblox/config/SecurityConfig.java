@@ -1,27 +1,44 @@
 package com.lawblox.config;
 
+import com.lawblox.security.AdminAccounts;
 import com.lawblox.security.JwtAuthenticationFilter;
+import com.lawblox.security.PasswordHashing;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * BCrypt at a fixed strength, or calibrated at startup to the target
+     * latency when strength is 0. Older and weaker hashes are upgraded on login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${lawblox.auth.password-hashing.strength:0}") int strength,
+            @Value("${lawblox.auth.password-hashing.target:250ms}") Duration target,
+            @Value("${lawblox.auth.password-hashing.min-strength:10}") int minStrength,
+            @Value("${lawblox.auth.password-hashing.max-strength:14}") int maxStrength
+    ) {
+        return PasswordHashing.encoder(strength > 0
+                ? strength
+                : PasswordHashing.calibrate(target, minStrength, maxStrength));
     }
 
     @Bean
@@ -38,7 +55,13 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> {})
             .authorizeHttpRequests(auth -> auth
+                // Already authorized on the original request: error pages carry its
+                // status (don't turn a 400 into a 403) and async dispatches finish streams
+                .dispatcherTypeMatchers(DispatcherType.ERROR, DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                // Load balancer and Prometheus scrapes, only reachable on management.server.port
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                .requestMatchers("/api/admin/**").hasAuthority(AdminAccounts.AUTHORITY)
                 .anyRequest().authenticated()
             )
             .sessionManagement(session ->
@@ -0,0 +1,24 @@
+package com.lawblox.config;
+
+import com.lawblox.metrics.PipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final PipelineMetrics metrics;
+
+    /**
+     * Pre-encoded chat responses go ahead of Jackson, which would otherwise serialize them as beans
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PreEncodedJsonHttpMessageConverter(metrics));
+    }
+}
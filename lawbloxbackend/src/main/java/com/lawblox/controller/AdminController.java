@@ -0,0 +1,69 @@
+package com.lawblox.controller;
+
+import com.lawblox.diagnostics.DiagnosticRecording;
+import com.lawblox.dto.DomainStats;
+import com.lawblox.dto.RecordingStatus;
+import com.lawblox.service.ChatDomainStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Admin-only (ADMIN authority, see SecurityConfig) diagnostics and usage stats
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final DiagnosticRecording diagnosticRecording;
+    private final ChatDomainStats chatDomainStats;
+
+    @GetMapping("/diagnostics/recording")
+    public ResponseEntity<RecordingStatus> recordingStatus() {
+        return ResponseEntity.ok(diagnosticRecording.status());
+    }
+
+    /**
+     * Start a JFR recording; ?duration=90s or 2m, capped at lawblox.diagnostics.recording.max-duration
+     */
+    @PostMapping("/diagnostics/recording/start")
+    public ResponseEntity<RecordingStatus> startRecording(
+            @RequestParam(required = false) @DurationFormat(style = DurationFormat.Style.COMPOSITE) Duration duration
+    ) {
+        return ResponseEntity.ok(diagnosticRecording.start(duration));
+    }
+
+    @PostMapping("/diagnostics/recording/stop")
+    public ResponseEntity<RecordingStatus> stopRecording() {
+        return ResponseEntity.ok(diagnosticRecording.stop());
+    }
+
+    /**
+     * Messages per legal domain created in [from, to), by default the last 7 days;
+     * ?from=2026-10-01T00:00&to=2026-10-08T00:00
+     */
+    @GetMapping("/stats/domains")
+    public ResponseEntity<DomainStats> domainStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(7);
+        if (!start.isBefore(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+        return ResponseEntity.ok(DomainStats.builder()
+                .from(start)
+                .to(end)
+                .messages(chatDomainStats.countByDomain(start, end))
+                .build());
+    }
+}
@@ -1,15 +1,31 @@
 package com.lawblox.controller;
 
+import com.lawblox.dto.ChatHistoryPage;
 import com.lawblox.dto.ChatRequest;
+import com.lawblox.dto.GuidanceSection;
+import com.lawblox.model.LegalDomain;
+import com.lawblox.security.AuthenticatedUser;
+import com.lawblox.service.ChatHistoryService;
+import com.lawblox.service.ChatStreamListener;
 import com.lawblox.service.LegalChatService;
-import com.lawblox.util.JwtUtil;
+import com.lawblox.util.PreEncodedJson;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/chat")
 @RequiredArgsConstructor
@@ -17,21 +33,99 @@ import java.util.Map;
 public class ChatController {
     
     private final LegalChatService legalChatService;
-    private final JwtUtil jwtUtil;
+    private final ChatHistoryService chatHistoryService;
     
-    @PostMapping("/message")
-    public ResponseEntity<Map<String, Object>> sendMessage(
+    @Qualifier("applicationTaskExecutor")
+    private final AsyncTaskExecutor taskExecutor;
+    
+    private static final long STREAM_TIMEOUT_MS = 30_000;
+    
+    /**
+     * Body is pre-encoded UTF-8 JSON, written straight to the response stream
+     * by PreEncodedJsonHttpMessageConverter
+     */
+    @PostMapping(path = "/message", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PreEncodedJson> sendMessage(
             @Valid @RequestBody ChatRequest request,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedUser principal
     ) {
-        String token = authHeader.substring(7); // Remove "Bearer "
-        String email = jwtUtil.extractEmail(token);
-        
-        Map<String, Object> response = legalChatService.processMessage(
+        // Identity comes from the claims JwtAuthenticationFilter already verified
+        PreEncodedJson response = legalChatService.processMessage(
             request.getMessage(), 
-            email
+            principal
         );
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Server-Sent Events variant of /message: a "domains" event, one "section"
+     * event per rendered piece, then "complete"
+     */
+    @PostMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessage(
+            @Valid @RequestBody ChatRequest request,
+            @AuthenticationPrincipal AuthenticatedUser principal
+    ) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        taskExecutor.execute(() -> {
+            try {
+                legalChatService.streamMessage(request.getMessage(), principal, new SseChatStreamListener(emitter));
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+    
+    @GetMapping("/history")
+    public ResponseEntity<ChatHistoryPage> getHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ChatHistoryService.DEFAULT_PAGE_SIZE) int size,
+            @AuthenticationPrincipal AuthenticatedUser principal
+    ) {
+        return ResponseEntity.ok(chatHistoryService.getHistory(principal.getId(), cursor, size));
+    }
+    
+    private static final class SseChatStreamListener implements ChatStreamListener {
+        
+        private final SseEmitter emitter;
+        
+        // Once the client is gone, keep rendering (so history is still saved) but stop sending
+        private boolean open = true;
+        
+        SseChatStreamListener(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+        
+        @Override
+        public void onDomains(Set<LegalDomain> domains, List<String> keywords) {
+            send("domains", Map.of("detectedDomains", domains, "detectedKeywords", keywords));
+        }
+        
+        @Override
+        public void onSection(GuidanceSection section) {
+            send("section", section);
+        }
+        
+        @Override
+        public void onComplete() {
+            send("complete", Map.of());
+            if (open) {
+                emitter.complete();
+            }
+        }
+        
+        private void send(String event, Object data) {
+            if (!open) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                open = false;
+                log.debug("Chat stream closed early: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.lawblox.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.lawblox.ChatPersist")
+@Label("Chat History Insert")
+@Description("One transaction saving chat messages, on the writer thread or, when the queue is full, the request thread")
+@Category({"LawBlox", "Chat"})
+@StackTrace(false)
+public class ChatPersistEvent extends jdk.jfr.Event {
+
+    @Label("Messages")
+    public int messages;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
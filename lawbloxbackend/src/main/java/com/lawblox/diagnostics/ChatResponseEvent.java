@@ -0,0 +1,32 @@
+package com.lawblox.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.lawblox.ChatResponse")
+@Label("Chat Response")
+@Description("One chat answer, from the normalized message to the encoded body or the last streamed section")
+@Category({"LawBlox", "Chat"})
+@StackTrace(false)
+public class ChatResponseEvent extends jdk.jfr.Event {
+
+    @Label("Outcome")
+    @Description("greeting, help or analysis")
+    public String outcome;
+
+    @Label("Domains")
+    public int domains;
+
+    @Label("Response Size")
+    @Description("Encoded body size; 0 for streamed answers")
+    @DataAmount
+    public long responseSize;
+
+    @Label("Streamed")
+    @Description("Sent as server-sent events, so the duration includes writing to the client")
+    public boolean streamed;
+}
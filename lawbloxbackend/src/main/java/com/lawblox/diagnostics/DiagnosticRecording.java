@@ -0,0 +1,132 @@
+package com.lawblox.diagnostics;
+
+import com.lawblox.dto.RecordingStatus;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * On-demand JDK Flight Recorder recording for production latency spikes.
+ *
+ * Uses the JDK's "default" settings (designed for continuous use, ~1%
+ * overhead) plus the com.lawblox.* pipeline events, so GC, lock contention
+ * and our own stages end up in one file. A recording is capped at
+ * max-duration and max-size and written to dir when it stops. One at a time.
+ */
+@Slf4j
+@Component
+public class DiagnosticRecording {
+
+    private static final String NAME = "lawblox-diagnostics";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+
+    // Kept after it stops so status can report the file; replaced by the next start
+    private Recording recording;
+
+    public DiagnosticRecording(@Value("${lawblox.diagnostics.recording.dir:${java.io.tmpdir}/lawblox-jfr}") Path directory,
+                               @Value("${lawblox.diagnostics.recording.max-duration:10m}") Duration maxDuration,
+                               @Value("${lawblox.diagnostics.recording.max-size:250MB}") DataSize maxSize) {
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Start a recording that stops by itself after duration (at most max-duration)
+     */
+    public synchronized RecordingStatus start(Duration duration) {
+        if (isRunning()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A recording is already running");
+        }
+        Duration length = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        if (length.isNegative() || length.isZero()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duration must be positive");
+        }
+        Recording next;
+        try {
+            Files.createDirectories(directory);
+            next = new Recording(Configuration.getConfiguration("default"));
+            next.setDestination(directory.resolve("lawblox-" + LocalDateTime.now().format(FILE_TIME) + ".jfr"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare recording in " + directory, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("JDK default recording settings are unreadable", e);
+        }
+        next.setName(NAME);
+        next.setToDisk(true);
+        next.setMaxSize(maxSize.toBytes());
+        next.setDuration(length);
+        close();
+        next.start();
+        recording = next;
+        log.info("Started diagnostic recording for {} to {}", length, next.getDestination());
+        return status();
+    }
+
+    /**
+     * Stop the running recording and write it to its file
+     */
+    public synchronized RecordingStatus stop() {
+        if (!isRunning()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "No recording is running");
+        }
+        recording.stop();
+        log.info("Diagnostic recording written to {}", recording.getDestination());
+        return status();
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return RecordingStatus.builder().state("NONE").build();
+        }
+        boolean running = isRunning();
+        Path file = recording.getDestination();
+        Long size = null;
+        if (!running) {
+            try {
+                size = Files.size(file);
+            } catch (IOException e) {
+                // Not written (yet); report the path anyway
+            }
+        }
+        return RecordingStatus.builder()
+                .state(running ? "RUNNING" : "STOPPED")
+                .startedAt(recording.getStartTime())
+                .maxDuration(recording.getDuration())
+                .file(file.toString())
+                .sizeBytes(size)
+                .build();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+}
@@ -0,0 +1,21 @@
+package com.lawblox.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.lawblox.JwtParse")
+@Label("JWT Parse")
+@Description("Verification of a bearer token, or a hit in the verified-token cache")
+@Category({"LawBlox", "Auth"})
+@StackTrace(false)
+public class JwtParseEvent extends jdk.jfr.Event {
+
+    @Label("Cached")
+    public boolean cached;
+
+    @Label("Valid")
+    public boolean valid;
+}
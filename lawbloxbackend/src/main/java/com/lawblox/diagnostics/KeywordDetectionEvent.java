@@ -0,0 +1,24 @@
+package com.lawblox.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.lawblox.KeywordDetection")
+@Label("Keyword Detection")
+@Description("Exact and typo-tolerant keyword matching of one chat message")
+@Category({"LawBlox", "Chat"})
+@StackTrace(false)
+public class KeywordDetectionEvent extends jdk.jfr.Event {
+
+    @Label("Message Length")
+    public int messageLength;
+
+    @Label("Keywords")
+    public int keywords;
+
+    @Label("Domains")
+    public int domains;
+}
@@ -0,0 +1,18 @@
+package com.lawblox.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.lawblox.PasswordCheck")
+@Label("Password Check")
+@Description("BCrypt verification of a login password")
+@Category({"LawBlox", "Auth"})
+@StackTrace(false)
+public class PasswordCheckEvent extends jdk.jfr.Event {
+
+    @Label("Matched")
+    public boolean matched;
+}
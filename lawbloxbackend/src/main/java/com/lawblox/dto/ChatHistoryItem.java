@@ -0,0 +1,19 @@
+package com.lawblox.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One stored chat exchange, projected straight from chat_messages (no User join)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatHistoryItem {
+    private Long id;
+    private String userMessage;
+    private String botResponse;
+    private String detectedKeywords;
+    private LocalDateTime timestamp;
+}
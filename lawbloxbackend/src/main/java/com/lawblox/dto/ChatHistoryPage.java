@@ -0,0 +1,15 @@
+package com.lawblox.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatHistoryPage {
+    private List<ChatHistoryItem> messages;
+
+    // Pass back as ?cursor= for the next (older) page; null on the last page
+    private String nextCursor;
+}
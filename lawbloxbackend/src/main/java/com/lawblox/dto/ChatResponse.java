@@ -0,0 +1,22 @@
+package com.lawblox.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.lawblox.model.LegalCaseSuggestion;
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Body of /api/chat/message. Served pre-encoded (see ChatResponseJson), which
+ * must stay byte-identical to ChatJson.WRITER's output for this class.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"response", "detectedDomains", "suggestedCases"})
+public class ChatResponse {
+    String response;
+    Collection<String> detectedDomains;
+    List<LegalCaseSuggestion> suggestedCases;
+}
@@ -0,0 +1,12 @@
+package com.lawblox.dto;
+
+import lombok.Value;
+
+/**
+ * Number of chat messages stored with one LegalDomain bitmask
+ */
+@Value
+public class DomainMaskCount {
+    Integer domainMask;
+    Long count;
+}
@@ -0,0 +1,20 @@
+package com.lawblox.dto;
+
+import com.lawblox.model.LegalDomain;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DomainStats {
+    // Messages created in [from, to)
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    // Every domain is present; a message about two domains counts for both
+    private Map<LegalDomain, Long> messages;
+}
@@ -0,0 +1,17 @@
+package com.lawblox.dto;
+
+import com.lawblox.model.LegalCaseSuggestion;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One streamed piece of a chat response. Sections without a domain carry the
+ * surrounding text (analysis header, contacts, greeting or help message).
+ */
+@Value
+public class GuidanceSection {
+    String domain;
+    String content;
+    List<LegalCaseSuggestion> suggestedCases;
+}
@@ -0,0 +1,21 @@
+package com.lawblox.dto;
+
+import lombok.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RecordingStatus {
+    // NONE, RUNNING or STOPPED
+    private String state;
+    private Instant startedAt;
+    private Duration maxDuration;
+
+    // Written when the recording stops, by request or at maxDuration
+    private String file;
+    private Long sizeBytes;
+}
@@ -0,0 +1,104 @@
+package com.lawblox.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for the chat request pipeline, scraped from /actuator/prometheus.
+ *
+ * lawblox.chat.stage has one series per stage (auth, user_lookup, password,
+ * detect, render, case_law, persist, serialize); lawblox.chat.request times the
+ * whole message by outcome and number of detected domains. Both publish
+ * percentile histograms, so p99 can be aggregated across instances and a
+ * regression traced to the stage that moved.
+ *
+ * Every timer is registered up front; recording is an array index and a
+ * nanoTime, with no tag lookups on the request path. Requests that asked
+ * for a Server-Timing header also get each stage added to their ServerTiming.
+ */
+@Component
+public class PipelineMetrics {
+
+    public enum Stage {
+        // PASSWORD is the BCrypt check on login
+        AUTH, USER_LOOKUP, PASSWORD, DETECT, RENDER, CASE_LAW, PERSIST, SERIALIZE;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    public enum Outcome {
+        GREETING, HELP, ANALYSIS;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    // Detected domain counts are tagged 0, 1, 2 and 3+
+    private static final String[] DOMAIN_COUNTS = {"0", "1", "2", "3+"};
+
+    // Stages run in microseconds; persist can block briefly when the write-behind queue is full
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(1_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(5);
+
+    private final Timer[] stages = new Timer[Stage.values().length];
+    private final Timer[][] requests = new Timer[Outcome.values().length][DOMAIN_COUNTS.length];
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stages[stage.ordinal()] = Timer.builder("lawblox.chat.stage")
+                    .description("Time spent in one stage of a chat request")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(meterRegistry);
+        }
+        // Greetings and help never have domains; analysis always has at least one
+        requests[Outcome.GREETING.ordinal()][0] = requestTimer(meterRegistry, Outcome.GREETING, 0);
+        requests[Outcome.HELP.ordinal()][0] = requestTimer(meterRegistry, Outcome.HELP, 0);
+        for (int i = 1; i < DOMAIN_COUNTS.length; i++) {
+            requests[Outcome.ANALYSIS.ordinal()][i] = requestTimer(meterRegistry, Outcome.ANALYSIS, i);
+        }
+    }
+
+    /**
+     * Record a stage that started at startNanos; returns the end time, to start the next stage from
+     */
+    public long record(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stages[stage.ordinal()].record(now - startNanos, TimeUnit.NANOSECONDS);
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.add(stage, now - startNanos);
+        }
+        return now;
+    }
+
+    public void recordRequest(Outcome outcome, int domainCount, long startNanos) {
+        requests[outcome.ordinal()][Math.min(domainCount, DOMAIN_COUNTS.length - 1)]
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, Outcome outcome, int domainCount) {
+        return Timer.builder("lawblox.chat.request")
+                .description("Time to answer a chat message, excluding auth and serialization")
+                .tag("outcome", outcome.tag)
+                .tag("domains", DOMAIN_COUNTS[domainCount])
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+}
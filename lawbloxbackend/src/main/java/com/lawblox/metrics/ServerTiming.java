@@ -0,0 +1,70 @@
+package com.lawblox.metrics;
+
+import com.lawblox.metrics.PipelineMetrics.Stage;
+
+/**
+ * Stage durations of one request, rendered as a Server-Timing header value:
+ * "auth;dur=0.412, detect;dur=0.051, ..., total;dur=1.337" (milliseconds).
+ *
+ * Bound to the request thread by ServerTimingFilter, and only for requests
+ * that are being timed; PipelineMetrics adds to it as stages complete.
+ * Work handed to other threads (the SSE stream) is not included.
+ */
+public final class ServerTiming {
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] stageNanos = new long[Stage.values().length];
+    private int recorded;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Start timing the current thread's request; close() when it completes
+     */
+    public static ServerTiming start() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public void close() {
+        CURRENT.remove();
+    }
+
+    // A stage can run more than once per request; the header shows the sum
+    void add(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+        recorded |= 1 << stage.ordinal();
+    }
+
+    /**
+     * Header value for the stages recorded so far, plus the total time since start
+     */
+    public String header() {
+        StringBuilder header = new StringBuilder(128);
+        for (Stage stage : Stage.values()) {
+            if ((recorded & 1 << stage.ordinal()) != 0) {
+                appendMetric(header, stage.tag(), stageNanos[stage.ordinal()]).append(", ");
+            }
+        }
+        return appendMetric(header, "total", System.nanoTime() - startNanos).toString();
+    }
+
+    // dur is in milliseconds, to the microsecond
+    private static StringBuilder appendMetric(StringBuilder header, String name, long nanos) {
+        long micros = (nanos + 500) / 1000;
+        long fraction = micros % 1000;
+        header.append(name).append(";dur=").append(micros / 1000).append('.');
+        if (fraction < 100) {
+            header.append(fraction < 10 ? "00" : "0");
+        }
+        return header.append(fraction);
+    }
+}
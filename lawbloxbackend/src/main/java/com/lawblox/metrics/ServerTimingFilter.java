@@ -0,0 +1,228 @@
+package com.lawblox.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adds a Server-Timing header with per-stage durations to /api responses,
+ * for requests sent with "X-Server-Timing: <secret>" or picked by sample-rate.
+ *
+ * The opt-in needs the configured secret (no secret, no opt-in), and
+ * /api/auth is never timed: a login for an unknown email stops before the
+ * user lookup and password stages, so the header would tell anyone which
+ * accounts exist.
+ *
+ * Runs ahead of the security filters so auth is included. The body of a timed
+ * response is held until the converter flushes it, and the header is set
+ * then, so serialization of the pre-encoded chat body is included too.
+ * Untimed requests pass straight through.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_HEADER = "X-Server-Timing";
+    public static final String RESPONSE_HEADER = "Server-Timing";
+
+    private final byte[] secret;
+    private final double sampleRate;
+
+    public ServerTimingFilter(@Value("${lawblox.server-timing.secret:}") String secret,
+                              @Value("${lawblox.server-timing.sample-rate:0}") double sampleRate) {
+        this.secret = secret.isEmpty() ? null : secret.getBytes(StandardCharsets.UTF_8);
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/") || path.startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (!isTimed(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ServerTiming timing = ServerTiming.start();
+        TimedResponse timedResponse = new TimedResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            // Bodies that were never flushed (errors, empty responses) are committed after this
+            timedResponse.writeHeader();
+            timing.close();
+        }
+    }
+
+    private boolean isTimed(HttpServletRequest request) {
+        String optIn = request.getHeader(REQUEST_HEADER);
+        if (secret != null && optIn != null
+                && MessageDigest.isEqual(secret, optIn.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+
+        private final ServerTiming timing;
+        private boolean headerWritten;
+        private TimedOutputStream outputStream;
+
+        TimedResponse(HttpServletResponse response, ServerTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        /**
+         * Set the header from the stages recorded so far and release any buffered body
+         */
+        void writeHeader() throws IOException {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(RESPONSE_HEADER, timing.header());
+            }
+            headerWritten = true;
+            if (outputStream != null) {
+                outputStream.release();
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TimedOutputStream(super.getOutputStream(), this);
+            }
+            return outputStream;
+        }
+
+        // Error responses are committed by sendError, before the error page renders
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (outputStream != null) {
+                outputStream.discard();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            if (outputStream != null) {
+                outputStream.discard();
+            }
+        }
+    }
+
+    /**
+     * Holds the body until the first flush: Tomcat completes a response as soon
+     * as Content-Length bytes are written, which would leave no time to add the
+     * header after serialization.
+     */
+    private static final class TimedOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final TimedResponse response;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+
+        TimedOutputStream(ServletOutputStream delegate, TimedResponse response) {
+            this.delegate = delegate;
+            this.response = response;
+        }
+
+        void release() throws IOException {
+            if (buffer != null) {
+                ByteArrayOutputStream body = buffer;
+                buffer = null;
+                body.writeTo(delegate);
+            }
+        }
+
+        void discard() {
+            if (buffer != null) {
+                buffer.reset();
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (buffer != null) {
+                buffer.write(b);
+            } else {
+                delegate.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            } else {
+                delegate.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            response.writeHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.writeHeader();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
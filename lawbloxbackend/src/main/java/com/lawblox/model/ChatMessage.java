@@ -12,12 +12,15 @@ import java.time.LocalDateTime;
 @Builder
 public class ChatMessage {
 
+    // Pooled ids (50 per round trip) so Hibernate can batch inserts; IDENTITY can't.
+    // MySQL has no sequences, so Hibernate backs this with the chat_messages_seq table
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_messages_seq")
+    @SequenceGenerator(name = "chat_messages_seq", sequenceName = "chat_messages_seq", allocationSize = 50)
     @Column(name = "message_id")  // matches SQL
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")  // matches SQL foreign key
     private User user;
 
@@ -30,11 +33,18 @@ public class ChatMessage {
     @Column(name = "detected_keywords", columnDefinition = "TEXT")
     private String detectedKeywords;
 
+    // LegalDomain bitmask; null until ChatDomainBackfill reaches rows saved before the column existed
+    @Column(name = "domain_mask")
+    private Integer domainMask;
+
     @Column(name = "created_at")
     private LocalDateTime timestamp;
 
     @PrePersist
     protected void onCreate() {
-        timestamp = LocalDateTime.now();
+        // Written behind, so keep the time the message was received
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
     }
 }
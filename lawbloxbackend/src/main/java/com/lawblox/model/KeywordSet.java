@@ -0,0 +1,228 @@
+package com.lawblox.model;
+
+import java.util.*;
+
+/**
+ * Keywords detected in one message, as a bitset over keyword ids. Ids below
+ * KeywordVocabulary.size() are the stable vocabulary ids; higher ones belong
+ * to database-only keywords of the catalog snapshot that created the set.
+ *
+ * encode() is the compact form stored in chat_messages.detected_keywords:
+ * "v1:" + base64url varint deltas of the vocabulary ids, then ";name" for
+ * each keyword outside the vocabulary (';' and '\' in names escaped by '\').
+ */
+public final class KeywordSet {
+
+    private static final String ENCODED_PREFIX = "v1:";
+
+    private final String[] names;  // id -> keyword; shared, never modified
+    private final long[] bits;
+    private int size;
+
+    public KeywordSet(String[] names) {
+        this.names = names;
+        this.bits = new long[(names.length + 63) >>> 6];
+    }
+
+    /**
+     * A set of the given keywords, vocabulary or not
+     */
+    public static KeywordSet of(Collection<String> keywords) {
+        List<String> table = new ArrayList<>(Arrays.asList(KeywordVocabulary.names()));
+        for (String keyword : keywords) {
+            if (!table.contains(keyword)) {
+                table.add(keyword);
+            }
+        }
+        KeywordSet set = new KeywordSet(table.toArray(new String[0]));
+        for (String keyword : keywords) {
+            set.add(table.indexOf(keyword));
+        }
+        return set;
+    }
+
+    public boolean add(int id) {
+        long bit = 1L << id;
+        if ((bits[id >>> 6] & bit) != 0) {
+            return false;
+        }
+        bits[id >>> 6] |= bit;
+        size++;
+        return true;
+    }
+
+    public boolean contains(int id) {
+        return id >>> 6 < bits.length && (bits[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Whether any keyword of a KeywordVocabulary.mask is in the set
+     */
+    public boolean intersects(long[] mask) {
+        for (int i = 0, n = Math.min(mask.length, bits.length); i < n; i++) {
+            if ((bits[i] & mask[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The keywords in alphabetical order
+     */
+    public List<String> names() {
+        List<String> list = new ArrayList<>(size);
+        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {
+            list.add(names[id]);
+        }
+        list.sort(null);
+        return list;
+    }
+
+    /**
+     * Compact stored form; "" for an empty set
+     */
+    public String encode() {
+        if (size == 0) {
+            return "";
+        }
+        byte[] packed = new byte[size * 5];
+        int length = 0;
+        int previous = -1;
+        StringBuilder others = new StringBuilder();
+        for (int id = nextId(0); id >= 0; id = nextId(id + 1)) {
+            if (id >= KeywordVocabulary.size()) {
+                others.append(';');
+                for (int i = 0; i < names[id].length(); i++) {
+                    char c = names[id].charAt(i);
+                    others.append(c == ';' || c == '\\' ? "\\" + c : String.valueOf(c));
+                }
+                continue;
+            }
+            int delta = id - previous;
+            previous = id;
+            while (delta >= 0x80) {
+                packed[length++] = (byte) (delta | 0x80);
+                delta >>>= 7;
+            }
+            packed[length++] = (byte) delta;
+        }
+        return ENCODED_PREFIX
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(packed, length))
+                + others;
+    }
+
+    /**
+     * Readable form of a stored detected_keywords value: keywords joined with
+     * ", " in alphabetical order. Values written before encode() existed are
+     * returned unchanged.
+     */
+    public static String decode(String stored) {
+        if (stored == null || !stored.startsWith(ENCODED_PREFIX)) {
+            return stored;
+        }
+        int othersStart = stored.indexOf(';', ENCODED_PREFIX.length());
+        int packedEnd = othersStart < 0 ? stored.length() : othersStart;
+        List<String> keywords = new ArrayList<>();
+        try {
+            byte[] packed = Base64.getUrlDecoder().decode(stored.substring(ENCODED_PREFIX.length(), packedEnd));
+            int id = -1;
+            for (int i = 0; i < packed.length; ) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = packed[i++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0 && i < packed.length);
+                id += delta;
+                // Ids from a newer vocabulary are skipped
+                if (id < KeywordVocabulary.size()) {
+                    keywords.add(KeywordVocabulary.name(id));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return stored;
+        }
+        StringBuilder other = new StringBuilder();
+        for (int i = othersStart + 1; othersStart >= 0 && i <= stored.length(); i++) {
+            char c = i < stored.length() ? stored.charAt(i) : ';';
+            if (c == '\\' && i + 1 < stored.length()) {
+                other.append(stored.charAt(++i));
+            } else if (c == ';') {
+                keywords.add(other.toString());
+                other.setLength(0);
+            } else {
+                other.append(c);
+            }
+        }
+        keywords.sort(null);
+        return String.join(", ", keywords);
+    }
+
+    private int nextId(int from) {
+        int word = from >>> 6;
+        if (word >= bits.length) {
+            return -1;
+        }
+        long remaining = bits[word] & (-1L << from);
+        while (true) {
+            if (remaining != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(remaining);
+            }
+            if (++word == bits.length) {
+                return -1;
+            }
+            remaining = bits[word];
+        }
+    }
+
+    // Same ids, whatever snapshot the sets came from
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeywordSet other) || size != other.size) {
+            return false;
+        }
+        for (int i = 0, n = Math.max(bits.length, other.bits.length); i < n; i++) {
+            if (word(i) != other.word(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // Trailing empty words are left out, matching equals
+        int last = bits.length - 1;
+        while (last >= 0 && bits[last] == 0) {
+            last--;
+        }
+        long hash = 0;
+        for (int i = 0; i <= last; i++) {
+            hash = hash * 31 + bits[i];
+        }
+        return Long.hashCode(hash);
+    }
+
+    private long word(int index) {
+        return index < bits.length ? bits[index] : 0;
+    }
+
+    @Override
+    public String toString() {
+        return names().toString();
+    }
+}
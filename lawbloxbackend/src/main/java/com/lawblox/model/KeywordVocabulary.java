@@ -0,0 +1,104 @@
+package com.lawblox.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stable ids for keywords the code knows about: every built-in keyword plus
+ * the few that guidance renderers test for. An id is the keyword's position
+ * below; ids are stored in chat_messages.detected_keywords, so this list is
+ * append-only. Keywords that only exist in the database get ids after these
+ * (see KeywordCatalog) and are stored by name.
+ */
+public final class KeywordVocabulary {
+
+    private static final String[] NAMES = {
+        "EPF", "ESI", "FIR", "GI tag", "GST", "IP rights", "IPC", "IT act", "ITR", "MACT", "NGT", "PF",
+        "PIL", "TDS", "UPI fraud", "WhatsApp fraud", "accident", "accused", "adoption", "advance tax",
+        "air act", "air pollution", "alimony", "anticipatory bail", "arrest", "article 14",
+        "article 19", "article 21", "assault", "assessment", "bail", "banking fraud", "bonus",
+        "boundary", "brand", "buyer", "capital gains", "chargesheet", "cheating", "child",
+        "child support", "civil rights", "compensation", "complaint", "conjugal rights",
+        "consumer court", "consumer forum", "consumer protection act", "copyright", "copyright act",
+        "counterfeit", "crime", "cruelty", "custody", "customs duty", "cyber cell", "cyber crime",
+        "cyber security", "cyberbullying", "damage", "data breach", "deed", "defamation",
+        "defective product", "deficiency", "deforestation", "design", "digital signature",
+        "discrimination", "divorce", "domestic violence", "dowry", "e-commerce dispute",
+        "eco-sensitive zone", "electronic evidence", "email hacking", "emission", "employment",
+        "encroachment", "environment", "environmental clearance", "environmental impact", "equality",
+        "eviction", "excise", "fall", "faulty goods", "fence", "forest rights", "fraud", "freedom",
+        "fundamental rights", "gratuity", "green tribunal", "guardianship", "habeas corpus", "hacking",
+        "harassment", "harassment at work", "hazardous waste", "high court", "hindu marriage act",
+        "hit and run", "hospital negligence", "house", "husband", "identity theft", "illegal mining",
+        "income tax", "income tax return", "industrial dispute", "industrial waste", "infringement",
+        "injury", "insurance claim", "intellectual property", "khata", "kidnapping", "labour court",
+        "land", "landlord", "lease agreement", "liability", "licensing", "logo", "maintenance",
+        "mandamus", "marriage", "maternity leave", "medical negligence", "minimum wages",
+        "misleading advertisement", "molestation", "morphing", "motor accident", "murder", "mutation",
+        "mutual consent", "national consumer helpline", "negligence", "neighbor", "neighbour",
+        "noise pollution", "notice period", "nuisance", "online fraud", "online shopping", "patent",
+        "patent office", "personal injury", "phishing", "piracy", "plagiarism", "police", "pollution",
+        "pollution control board", "posh act", "possession", "privacy", "property", "property dispute",
+        "provident fund", "public interest litigation", "rape", "refund", "registration", "registry",
+        "rent", "replacement", "resignation", "restitution", "retrenchment", "revenge porn",
+        "right to life", "robbery", "royalty", "salary", "sale deed", "search", "section 498A",
+        "section 66A", "section 67", "seller", "service", "service tax", "sexual harassment", "slip",
+        "social media crime", "special marriage act", "speech", "stamp duty", "strict liability",
+        "supreme court", "tax appeal", "tax audit", "tax demand", "tax evasion", "tax investigation",
+        "tax notice", "tax penalty", "tax refund", "tax tribunal", "taxation", "tenant", "termination",
+        "theft", "title", "trade secret", "trademark", "trademark registry", "trespass", "unfair trade",
+        "vicarious liability", "victim", "visitation rights", "wages", "warrant", "warranty",
+        "water act", "water pollution", "wife", "wildlife protection", "workplace", "writ petition",
+        "wrongful dismissal", "498A", "invention"
+    };
+
+    private static final Map<String, Integer> IDS = new HashMap<>();
+
+    static {
+        for (int id = 0; id < NAMES.length; id++) {
+            if (IDS.put(NAMES[id], id) != null) {
+                throw new IllegalStateException("Duplicate vocabulary keyword " + NAMES[id]);
+            }
+        }
+    }
+
+    private KeywordVocabulary() {
+    }
+
+    public static int size() {
+        return NAMES.length;
+    }
+
+    /**
+     * The keyword's id, or -1 if it is not in the vocabulary
+     */
+    public static int id(String keyword) {
+        Integer id = IDS.get(keyword);
+        return id == null ? -1 : id;
+    }
+
+    public static String name(int id) {
+        return NAMES[id];
+    }
+
+    /**
+     * Bit mask over vocabulary ids, for KeywordSet.intersects
+     *
+     * @throws IllegalArgumentException if a keyword is not in the vocabulary
+     */
+    public static long[] mask(String... keywords) {
+        long[] mask = new long[(NAMES.length + 63) >>> 6];
+        for (String keyword : keywords) {
+            int id = id(keyword);
+            if (id < 0) {
+                throw new IllegalArgumentException("Not a vocabulary keyword: " + keyword);
+            }
+            mask[id >>> 6] |= 1L << id;
+        }
+        return mask;
+    }
+
+    static String[] names() {
+        return NAMES.clone();
+    }
+}
@@ -1,18 +1,20 @@
 package com.lawblox.model;
 
-import lombok.*;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Value;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+/**
+ * A landmark case suggested alongside guidance. Immutable so one instance can
+ * be shared by every response that cites it; absent fields are left off the wire.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"caseName", "caseUrl", "keyTakeaway", "domain", "practicalAdvice"})
 public class LegalCaseSuggestion {
-    private String caseName;
-    private String caseUrl;
-    private String relevance;
-    private String legalDomain;
-    private String actionAdvice;
-    private String keyTakeaway;      // Add this field
-    private String domain;            // Add this field
-    private String practicalAdvice;   
-}
\ No newline at end of file
+    String caseName;
+    String caseUrl;
+    String keyTakeaway;
+    String domain;
+    String practicalAdvice;
+}
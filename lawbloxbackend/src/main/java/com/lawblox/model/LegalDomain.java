@@ -0,0 +1,59 @@
+package com.lawblox.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Legal domains we have guidance for. The constant names are the domain codes
+ * used by the API and legal_categories.domain_code; they are declared in
+ * alphabetical order so EnumSet iteration is the order responses list them in.
+ */
+public enum LegalDomain {
+    CONSTITUTIONAL_LAW,
+    CONSUMER_LAW,
+    CRIMINAL_LAW,
+    CYBER_LAW,
+    ENVIRONMENTAL_LAW,
+    FAMILY_LAW,
+    INTELLECTUAL_PROPERTY,
+    LABOR_LAW,
+    PROPERTY_LAW,
+    TAX_LAW,
+    TORT_LAW;
+
+    private static final LegalDomain[] VALUES = values();
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * The domain for a code, or null if there is none
+     */
+    public static LegalDomain fromCode(String code) {
+        for (LegalDomain domain : VALUES) {
+            if (domain.name().equals(code)) {
+                return domain;
+            }
+        }
+        return null;
+    }
+
+    public static Set<LegalDomain> fromMask(int mask) {
+        EnumSet<LegalDomain> domains = EnumSet.noneOf(LegalDomain.class);
+        for (LegalDomain domain : VALUES) {
+            if ((mask & domain.bit()) != 0) {
+                domains.add(domain);
+            }
+        }
+        return domains;
+    }
+
+    public static int mask(Iterable<LegalDomain> domains) {
+        int mask = 0;
+        for (LegalDomain domain : domains) {
+            mask |= domain.bit();
+        }
+        return mask;
+    }
+}
@@ -1,11 +1,45 @@
 package com.lawblox.repository;
 
+import com.lawblox.dto.ChatHistoryItem;
+import com.lawblox.dto.DomainMaskCount;
 import com.lawblox.model.ChatMessage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByUserIdOrderByTimestampDesc(Long userId);
-}
\ No newline at end of file
+
+    // Both queries walk idx_chat_messages_user_created backwards: newest first,
+    // message_id breaking ties between messages saved in the same second
+
+    @Query("""
+            select new com.lawblox.dto.ChatHistoryItem(
+                m.id, m.userMessage, m.botResponse, m.detectedKeywords, m.timestamp)
+            from ChatMessage m
+            where m.user.id = :userId
+            order by m.timestamp desc, m.id desc""")
+    List<ChatHistoryItem> findLatestHistory(Long userId, Limit limit);
+
+    @Query("""
+            select new com.lawblox.dto.ChatHistoryItem(
+                m.id, m.userMessage, m.botResponse, m.detectedKeywords, m.timestamp)
+            from ChatMessage m
+            where m.user.id = :userId
+              and (m.timestamp < :before or (m.timestamp = :before and m.id < :beforeId))
+            order by m.timestamp desc, m.id desc""")
+    List<ChatHistoryItem> findHistoryBefore(Long userId, LocalDateTime before, Long beforeId, Limit limit);
+
+    // Reads only idx_chat_messages_created_domain: a range scan on created_at,
+    // grouped by the mask stored alongside it (at most 2^11 groups)
+    @Query("""
+            select new com.lawblox.dto.DomainMaskCount(m.domainMask, count(m))
+            from ChatMessage m
+            where m.timestamp >= :from and m.timestamp < :to and m.domainMask > 0
+            group by m.domainMask""")
+    List<DomainMaskCount> countByDomainMask(LocalDateTime from, LocalDateTime to);
+}
@@ -2,11 +2,16 @@ package com.lawblox.repository;
 
 import com.lawblox.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("select u.id from User u where u.isActive = false")
+    List<Long> findDeactivatedUserIds();
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.lawblox.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Accounts granted the ADMIN authority, configured by user id in lawblox.admin.user-ids.
+ *
+ * Ids rather than emails: signup does not verify email ownership, so anyone
+ * could register a configured admin email before its owner does, while an id
+ * only exists once the account it names has been created.
+ */
+@Component
+public class AdminAccounts {
+
+    public static final String AUTHORITY = "ADMIN";
+
+    private final Set<Long> userIds;
+
+    public AdminAccounts(@Value("${lawblox.admin.user-ids:}") Set<Long> userIds) {
+        this.userIds = Set.copyOf(userIds);
+    }
+
+    public boolean isAdmin(Long userId) {
+        return userId != null && userIds.contains(userId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.lawblox.security;
+
+import lombok.Value;
+
+/**
+ * Principal built from signed JWT claims, so authenticated requests
+ * don't need to load the user row
+ */
+@Value
+public class AuthenticatedUser {
+    Long id;
+    String email;
+    String firstName;
+}
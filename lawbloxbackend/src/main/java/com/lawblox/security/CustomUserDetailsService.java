@@ -7,6 +7,8 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
@@ -27,7 +29,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User
                 .withUsername(user.getEmail())
                 .password(user.getPassword())
+                .disabled(Boolean.FALSE.equals(user.getIsActive()))
                 .authorities("USER")
                 .build();
     }
+
+    /**
+     * Fallback for tokens issued without identity claims
+     */
+    public Optional<AuthenticatedUser> loadActiveUser(String email) {
+        return userRepository.findByEmail(email)
+                .filter(user -> !Boolean.FALSE.equals(user.getIsActive()))
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail(), user.getFirstName()));
+    }
 }
@@ -0,0 +1,45 @@
+package com.lawblox.security;
+
+import com.lawblox.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * In-memory revocation list of deactivated accounts (users.is_active = false).
+ *
+ * Tokens stay valid until they expire, so the JWT filter checks this set on
+ * every request instead of loading the user. The set is tiny and refreshed
+ * in the background; deactivation takes effect within one refresh interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeactivatedUserRegistry {
+
+    private final UserRepository userRepository;
+
+    private volatile Set<Long> deactivatedIds = Set.of();
+
+    public boolean isDeactivated(Long userId) {
+        return deactivatedIds.contains(userId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lawblox.auth.revocation-refresh:PT30S}",
+               initialDelayString = "${lawblox.auth.revocation-refresh:PT30S}")
+    public void refresh() {
+        try {
+            deactivatedIds = Set.copyOf(userRepository.findDeactivatedUserIds());
+        } catch (DataAccessException e) {
+            // Keep the last known list rather than letting everyone back in
+            log.warn("Could not refresh deactivated users: {}", e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package com.lawblox.security;
 
+import com.lawblox.metrics.PipelineMetrics;
+import com.lawblox.metrics.PipelineMetrics.Stage;
 import com.lawblox.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,7 +24,10 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+    private final DeactivatedUserRegistry deactivatedUsers;
+    private final AdminAccounts adminAccounts;
+    private final PipelineMetrics metrics;
 
     @Override
     protected void doFilterInternal(
@@ -37,20 +43,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String jwt = authHeader.substring(7);
-        String email = jwtUtil.extractEmail(jwt);
+        // Verify the token once; the principal is built from its claims, with no user lookup
+        long started = System.nanoTime();
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            metrics.record(Stage.AUTH, started);
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            AuthenticatedUser user = toPrincipal(claims);
 
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
+            if (user != null && !deactivatedUsers.isDeactivated(user.getId())) {
 
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                user,
                                 null,
-                                userDetails.getAuthorities()
+                                adminAccounts.isAdmin(user.getId())
+                                        ? AuthorityUtils.createAuthorityList("USER", AdminAccounts.AUTHORITY)
+                                        : AuthorityUtils.createAuthorityList("USER")
                         );
 
                 authToken.setDetails(
@@ -60,7 +76,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
+        metrics.record(Stage.AUTH, started);
 
         filterChain.doFilter(request, response);
     }
+
+    private AuthenticatedUser toPrincipal(Claims claims) {
+        Long userId = claims.get(JwtUtil.USER_ID_CLAIM, Long.class);
+        if (userId == null) {
+            // Token issued before identity claims existed; look the user up once
+            long started = System.nanoTime();
+            AuthenticatedUser user = userDetailsService.loadActiveUser(claims.getSubject()).orElse(null);
+            metrics.record(Stage.USER_LOOKUP, started);
+            return user;
+        }
+        return new AuthenticatedUser(userId, claims.getSubject(), claims.get(JwtUtil.FIRST_NAME_CLAIM, String.class));
+    }
 }
@@ -0,0 +1,125 @@
+package com.lawblox.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing and verification (~100 ms of CPU each) on a small
+ * fixed pool with a bounded queue, so a login burst can use at most that
+ * many cores and never the request threads' share.
+ *
+ * When the queue is full the caller gets a 503 with Retry-After straight
+ * away instead of waiting behind the burst. Callers block on the result;
+ * with queue-capacity slots the wait is bounded to roughly
+ * (queue-capacity / threads + 1) hashes.
+ */
+@Component
+public class PasswordBulkhead {
+
+    private final ThreadPoolExecutor executor;
+    private final String retryAfterSeconds;
+
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordBulkhead(MeterRegistry meterRegistry,
+                            @Value("${lawblox.auth.password-hashing.threads:0}") int threads,
+                            @Value("${lawblox.auth.password-hashing.queue-capacity:32}") int queueCapacity,
+                            @Value("${lawblox.auth.password-hashing.retry-after:2s}") Duration retryAfter) {
+        // Half the cores by default, leaving the rest for chat requests
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+
+        Gauge.builder("lawblox.auth.password.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("lawblox.auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes being computed")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("lawblox.auth.password.wait")
+                .description("Time a password hash waited in the queue before starting")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("lawblox.auth.password.rejected")
+                .description("Logins and signups refused with 503 because the hashing queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run password work on the hashing pool and wait for its result
+     *
+     * @throws ResponseStatusException 503 with Retry-After when the queue is full
+     */
+    public <T> T call(Supplier<T> work) {
+        long queued = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queued, TimeUnit.NANOSECONDS);
+                return work.get();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new SaturatedException(retryAfterSeconds);
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for password hashing", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    static final class SaturatedException extends ResponseStatusException {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        SaturatedException(String retryAfterSeconds) {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "Too many sign-ins right now, please retry shortly");
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
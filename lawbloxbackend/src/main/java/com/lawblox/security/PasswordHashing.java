@@ -0,0 +1,71 @@
+package com.lawblox.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Password encoder whose BCrypt cost is picked for the hardware it runs on.
+ *
+ * Hashes are stored as "{bcrypt}$2a$NN$...", so the algorithm and cost travel
+ * with each hash. Hashes saved before the prefix existed still match, and
+ * upgradeEncoding() reports them, and any hash below the current cost, as
+ * outdated so they are re-hashed on the next successful login.
+ */
+@Slf4j
+public final class PasswordHashing {
+
+    public static final String BCRYPT = "bcrypt";
+
+    private static final String CALIBRATION_PASSWORD = "calibrate-Passw0rd!";
+    private static final int WARMUP_HASHES = 20;
+    private static final int MEASURED_HASHES = 3;
+
+    private PasswordHashing() {
+    }
+
+    /**
+     * Delegating encoder that writes {bcrypt} hashes at the given cost
+     */
+    public static PasswordEncoder encoder(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        // Unprefixed hashes from before the delegating encoder are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * Highest cost in [minStrength, maxStrength] whose hash still takes no
+     * longer than target here; each step doubles the work, so one measured
+     * cost is enough to project the rest.
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder warmup = new BCryptPasswordEncoder(4);
+        for (int i = 0; i < WARMUP_HASHES; i++) {
+            warmup.encode(CALIBRATION_PASSWORD);
+        }
+
+        BCryptPasswordEncoder measured = new BCryptPasswordEncoder(minStrength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_HASHES; i++) {
+            long started = System.nanoTime();
+            measured.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+
+        int strength = minStrength;
+        long projected = best;
+        while (strength < maxStrength && projected * 2 <= target.toNanos()) {
+            strength++;
+            projected *= 2;
+        }
+        log.info("BCrypt cost {} (~{} ms per hash, target {} ms, cost {} measured at {} ms)",
+                strength, projected / 1_000_000, target.toMillis(), minStrength, best / 1_000_000);
+        return strength;
+    }
+}
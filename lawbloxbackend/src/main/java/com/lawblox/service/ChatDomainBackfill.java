@@ -0,0 +1,113 @@
+package com.lawblox.service;
+
+import com.lawblox.model.KeywordSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills chat_messages.domain_mask for rows saved before the column existed,
+ * from their detected_keywords and the current keyword catalog.
+ *
+ * Runs once per start on a background thread, walking the primary key in
+ * batches of batch-size rows with a pause in between, so a large history
+ * is backfilled without long transactions or a burst of load. Once every
+ * row has a mask, a start costs one indexed query.
+ */
+@Slf4j
+@Component
+public class ChatDomainBackfill {
+
+    private static final String NEXT_BATCH = """
+            SELECT message_id, detected_keywords
+            FROM chat_messages
+            WHERE domain_mask IS NULL AND message_id > ?
+            ORDER BY message_id
+            LIMIT ?""";
+    private static final String UPDATE = "UPDATE chat_messages SET domain_mask = ? WHERE message_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KeywordCatalog keywordCatalog;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pause;
+
+    public ChatDomainBackfill(JdbcTemplate jdbcTemplate,
+                              KeywordCatalog keywordCatalog,
+                              @Value("${lawblox.chat-history.domain-backfill.enabled:true}") boolean enabled,
+                              @Value("${lawblox.chat-history.domain-backfill.batch-size:500}") int batchSize,
+                              @Value("${lawblox.chat-history.domain-backfill.pause:100ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.keywordCatalog = keywordCatalog;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    // After KeywordCatalog has loaded the stored keywords
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread backfill = new Thread(this::run, "chat-domain-backfill");
+        backfill.setDaemon(true);
+        backfill.start();
+    }
+
+    void run() {
+        long lastId = 0;
+        long updated = 0;
+        try {
+            while (true) {
+                List<Object[]> batch = new ArrayList<>(batchSize);
+                KeywordMatcher matcher = keywordCatalog.matcher();
+                jdbcTemplate.query(NEXT_BATCH, row -> {
+                    batch.add(new Object[]{domainMask(row.getString(2), matcher), row.getLong(1)});
+                }, lastId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                jdbcTemplate.batchUpdate(UPDATE, batch);
+                updated += batch.size();
+                lastId = (Long) batch.get(batch.size() - 1)[1];
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Domain backfill stopped after {} messages: {}", updated, e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (updated > 0) {
+            log.info("Backfilled domain_mask for {} chat messages", updated);
+        }
+    }
+
+    /**
+     * Domains of a stored detected_keywords value, encoded or legacy "a, b"
+     */
+    static int domainMask(String detectedKeywords, KeywordMatcher matcher) {
+        String keywords = KeywordSet.decode(detectedKeywords);
+        if (keywords == null || keywords.isEmpty()) {
+            return 0;
+        }
+        int mask = 0;
+        for (String keyword : keywords.split(", ")) {
+            mask |= matcher.domainMask(keyword);
+        }
+        return mask;
+    }
+}
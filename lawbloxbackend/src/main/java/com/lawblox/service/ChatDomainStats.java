@@ -0,0 +1,45 @@
+package com.lawblox.service;
+
+import com.lawblox.dto.DomainMaskCount;
+import com.lawblox.model.LegalDomain;
+import com.lawblox.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-domain message counts from chat_messages.domain_mask
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatDomainStats {
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * Messages per detected domain created in [from, to), every domain
+     * present; a message about two domains counts for both
+     */
+    @Transactional(readOnly = true)
+    public Map<LegalDomain, Long> countByDomain(LocalDateTime from, LocalDateTime to) {
+        return fold(chatMessageRepository.countByDomainMask(from, to));
+    }
+
+    static Map<LegalDomain, Long> fold(List<DomainMaskCount> rows) {
+        Map<LegalDomain, Long> counts = new EnumMap<>(LegalDomain.class);
+        for (LegalDomain domain : LegalDomain.values()) {
+            counts.put(domain, 0L);
+        }
+        for (DomainMaskCount row : rows) {
+            for (LegalDomain domain : LegalDomain.fromMask(row.getDomainMask())) {
+                counts.merge(domain, row.getCount(), Long::sum);
+            }
+        }
+        return counts;
+    }
+}
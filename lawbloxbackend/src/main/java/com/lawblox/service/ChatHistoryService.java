@@ -0,0 +1,79 @@
+package com.lawblox.service;
+
+import com.lawblox.dto.ChatHistoryItem;
+import com.lawblox.dto.ChatHistoryPage;
+import com.lawblox.model.KeywordSet;
+import com.lawblox.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * One page of a user's history, newest first. Each page is an index range
+     * scan starting after the cursor, so its cost doesn't grow with the history.
+     */
+    @Transactional(readOnly = true)
+    public ChatHistoryPage getHistory(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // One extra row tells us whether there is a next page without a count query
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<ChatHistoryItem> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = chatMessageRepository.findLatestHistory(userId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = chatMessageRepository.findHistoryBefore(userId, after.timestamp(), after.id(), limit);
+        }
+
+        // Stored in KeywordSet's compact form
+        rows.forEach(row -> row.setDetectedKeywords(KeywordSet.decode(row.getDetectedKeywords())));
+
+        if (rows.size() <= pageSize) {
+            return new ChatHistoryPage(rows, null);
+        }
+        List<ChatHistoryItem> page = rows.subList(0, pageSize);
+        ChatHistoryItem last = page.get(pageSize - 1);
+        return new ChatHistoryPage(page, new Cursor(last.getTimestamp(), last.getId()).encode());
+    }
+
+    /**
+     * Position of the last message on a page; opaque to clients
+     */
+    private record Cursor(LocalDateTime timestamp, Long id) {
+
+        String encode() {
+            String raw = timestamp + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+    }
+}
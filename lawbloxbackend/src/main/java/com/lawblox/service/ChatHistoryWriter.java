@@ -0,0 +1,259 @@
+package com.lawblox.service;
+
+import com.lawblox.diagnostics.ChatPersistEvent;
+import com.lawblox.model.ChatMessage;
+import com.lawblox.repository.ChatMessageRepository;
+import com.lawblox.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence for chat history.
+ *
+ * Requests only enqueue a record; a background thread saves them in JDBC
+ * batches once batch-size records are waiting or flush-interval has passed.
+ * When the queue is full the caller saves its own record, so a slow database
+ * pushes back on chat requests instead of dropping history.
+ *
+ * The flusher stays a platform thread when request threads are virtual: as
+ * one virtual thread among thousands it only gets a carrier in turn, and
+ * under load the queue fills and requests end up writing their own rows.
+ */
+@Slf4j
+@Component
+public class ChatHistoryWriter implements SmartLifecycle {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final UserRepository userRepository;
+    private final TransactionOperations transactions;
+
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration shutdownTimeout;
+
+    private final Counter enqueued;
+    private final Counter callerRuns;
+    private final Counter failed;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ChatHistoryWriter(ChatMessageRepository chatMessageRepository,
+                             UserRepository userRepository,
+                             TransactionOperations transactions,
+                             MeterRegistry meterRegistry,
+                             @Value("${lawblox.chat-history.queue-capacity:10000}") int queueCapacity,
+                             @Value("${lawblox.chat-history.batch-size:50}") int batchSize,
+                             @Value("${lawblox.chat-history.flush-interval:200ms}") Duration flushInterval,
+                             @Value("${lawblox.chat-history.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.userRepository = userRepository;
+        this.transactions = transactions;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("lawblox.chat.history.queue.size", queue, BlockingQueue::size)
+                .description("Chat messages waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("lawblox.chat.history.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots before callers start writing synchronously")
+                .register(meterRegistry);
+        this.enqueued = meterRegistry.counter("lawblox.chat.history.enqueued");
+        this.callerRuns = Counter.builder("lawblox.chat.history.caller.runs")
+                .description("Messages written on the request thread because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("lawblox.chat.history.failed")
+                .description("Messages dropped because their own insert failed, after a retry")
+                .register(meterRegistry);
+        this.flushTimer = meterRegistry.timer("lawblox.chat.history.flush");
+        this.batchSizes = meterRegistry.summary("lawblox.chat.history.batch.size");
+    }
+
+    /**
+     * Queue a chat exchange for saving; falls back to a synchronous insert when the queue is full
+     */
+    public void write(Long userId, String userMessage, String botResponse, String keywords, int domainMask) {
+        PendingMessage message = new PendingMessage(userId, userMessage, botResponse, keywords, domainMask,
+                LocalDateTime.now());
+        if (running && queue.offer(message)) {
+            enqueued.increment();
+            return;
+        }
+        callerRuns.increment();
+        save(List.of(message));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "chat-history-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything enqueued while the flusher was exiting
+        List<PendingMessage> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            flush(rest.subList(from, Math.min(from + batchSize, rest.size())));
+        }
+        log.info("Chat history writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server (DEFAULT_PHASE - 2048) so in-flight requests can still enqueue
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void runFlusher() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // Waits for a first record, then up to flush-interval for the batch to fill
+    private void fillBatch(List<PendingMessage> batch) throws InterruptedException {
+        PendingMessage first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        flushTimer.record(() -> saveOrSalvage(batch));
+        batchSizes.record(batch.size());
+    }
+
+    /**
+     * Retries a failed batch once (a transient connection error), then saves
+     * it row by row so only the rows that fail on their own (say, a user
+     * deleted since the request) are dropped.
+     */
+    private void saveOrSalvage(List<PendingMessage> batch) {
+        try {
+            save(batch);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} chat messages failed, retrying", batch.size(), e);
+        }
+        try {
+            save(batch);
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                failed.increment();
+                log.error("Dropped a chat message after a failed insert", e);
+                return;
+            }
+            log.warn("Batch insert of {} chat messages failed again, saving them one at a time", batch.size(), e);
+        }
+        int dropped = 0;
+        for (PendingMessage message : batch) {
+            try {
+                save(List.of(message));
+            } catch (RuntimeException e) {
+                dropped++;
+                failed.increment();
+                log.error("Dropped a chat message for user {} after a failed insert", message.userId(), e);
+            }
+        }
+        if (dropped > 0) {
+            log.error("Dropped {} of {} chat messages from a failed batch", dropped, batch.size());
+        }
+    }
+
+    private void save(List<PendingMessage> batch) {
+        ChatPersistEvent event = new ChatPersistEvent();
+        event.begin();
+        try {
+            insert(batch);
+            event.succeeded = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.messages = batch.size();
+                event.commit();
+            }
+        }
+    }
+
+    private void insert(List<PendingMessage> batch) {
+        transactions.executeWithoutResult(status -> {
+            List<ChatMessage> entities = new ArrayList<>(batch.size());
+            for (PendingMessage message : batch) {
+                entities.add(ChatMessage.builder()
+                        .user(userRepository.getReferenceById(message.userId()))
+                        .userMessage(message.userMessage())
+                        .botResponse(message.botResponse())
+                        .detectedKeywords(message.keywords())
+                        .domainMask(message.domainMask())
+                        .timestamp(message.timestamp())
+                        .build());
+            }
+            chatMessageRepository.saveAll(entities);
+        });
+    }
+
+    private record PendingMessage(Long userId, String userMessage, String botResponse,
+                                  String keywords, int domainMask, LocalDateTime timestamp) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.lawblox.service;
+
+import com.lawblox.model.LegalDomain;
+import com.lawblox.service.guidance.GuidanceFragment;
+import com.lawblox.util.PreEncodedJson;
+import com.lawblox.util.Utf8Fragment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * /api/chat/message bodies in the ChatResponse shape,
+ * {"response":"...","detectedDomains":[...],"suggestedCases":[...]},
+ * assembled from UTF-8 fragments that are escaped and encoded once.
+ */
+final class ChatResponseJson {
+
+    private static final Utf8Fragment RESPONSE_OPEN = Utf8Fragment.raw("{\"response\":\"");
+    private static final Utf8Fragment DOMAINS_OPEN = Utf8Fragment.raw("\",\"detectedDomains\":[");
+    private static final Utf8Fragment CASES_OPEN = Utf8Fragment.raw("],\"suggestedCases\":[");
+    private static final Utf8Fragment CLOSE = Utf8Fragment.raw("]}");
+    private static final Utf8Fragment COMMA = Utf8Fragment.raw(",");
+    private static final Utf8Fragment NOTHING_DETECTED = Utf8Fragment.raw("\",\"detectedDomains\":[],\"suggestedCases\":[]}");
+
+    private static final Utf8Fragment GOOD_MORNING = Utf8Fragment.jsonString(ResponseTemplates.GOOD_MORNING);
+    private static final Utf8Fragment GOOD_AFTERNOON = Utf8Fragment.jsonString(ResponseTemplates.GOOD_AFTERNOON);
+    private static final Utf8Fragment GOOD_EVENING = Utf8Fragment.jsonString(ResponseTemplates.GOOD_EVENING);
+    private static final Utf8Fragment GREETING_BODY = Utf8Fragment.jsonString(ResponseTemplates.GREETING_BODY);
+    private static final Utf8Fragment CONTACTS_AND_DISCLAIMER = Utf8Fragment.jsonString(ResponseTemplates.CONTACTS_AND_DISCLAIMER);
+
+    // LegalDomain ordinal -> quoted domain code
+    private static final Utf8Fragment[] DOMAIN_CODES = Arrays.stream(LegalDomain.values())
+            .map(domain -> Utf8Fragment.raw('"' + domain.name() + '"'))
+            .toArray(Utf8Fragment[]::new);
+
+    static final PreEncodedJson HELP = PreEncodedJson.builder()
+            .add(RESPONSE_OPEN)
+            .addJsonString(ResponseTemplates.HELP)
+            .add(NOTHING_DETECTED)
+            .build();
+
+    private ChatResponseJson() {
+    }
+
+    /**
+     * timeGreeting is one of the ResponseTemplates.GOOD_* constants; only the name is encoded per request
+     */
+    static PreEncodedJson greeting(String timeGreeting, String userName) {
+        return PreEncodedJson.builder()
+                .add(RESPONSE_OPEN)
+                .add(timeOfDay(timeGreeting))
+                .addJsonString(String.valueOf(userName))
+                .add(GREETING_BODY)
+                .add(NOTHING_DETECTED)
+                .build();
+    }
+
+    /**
+     * Body for an assembled guidance response, without the closing brackets;
+     * everything in response order
+     */
+    static PreEncodedJson guidanceHead(String header, Set<LegalDomain> domains, List<GuidanceFragment> fragments,
+                                       List<Utf8Fragment> suggestions) {
+        PreEncodedJson.Builder json = PreEncodedJson.builder()
+                .add(RESPONSE_OPEN)
+                .addJsonString(header);
+        for (GuidanceFragment fragment : fragments) {
+            json.add(fragment.getJsonText());
+        }
+        json.add(CONTACTS_AND_DISCLAIMER).add(DOMAINS_OPEN);
+        boolean first = true;
+        for (LegalDomain domain : domains) {
+            if (!first) {
+                json.add(COMMA);
+            }
+            json.add(DOMAIN_CODES[domain.ordinal()]);
+            first = false;
+        }
+        json.add(CASES_OPEN);
+        for (int i = 0; i < suggestions.size(); i++) {
+            if (i > 0) {
+                json.add(COMMA);
+            }
+            json.add(suggestions.get(i));
+        }
+        return json.build();
+    }
+
+    static PreEncodedJson close(PreEncodedJson head) {
+        return PreEncodedJson.builder().add(head).add(CLOSE).build();
+    }
+
+    /**
+     * A cached guidance body with more cases appended to its suggestions
+     */
+    static PreEncodedJson withCases(RenderedGuidance guidance, List<Utf8Fragment> cases) {
+        PreEncodedJson.Builder json = PreEncodedJson.builder().add(guidance.getJsonHead());
+        for (int i = 0; i < cases.size(); i++) {
+            if (i > 0 || !guidance.getSuggestions().isEmpty()) {
+                json.add(COMMA);
+            }
+            json.add(cases.get(i));
+        }
+        return json.add(CLOSE).build();
+    }
+
+    private static Utf8Fragment timeOfDay(String timeGreeting) {
+        if (ResponseTemplates.GOOD_MORNING.equals(timeGreeting)) {
+            return GOOD_MORNING;
+        }
+        if (ResponseTemplates.GOOD_AFTERNOON.equals(timeGreeting)) {
+            return GOOD_AFTERNOON;
+        }
+        if (ResponseTemplates.GOOD_EVENING.equals(timeGreeting)) {
+            return GOOD_EVENING;
+        }
+        return Utf8Fragment.jsonString(timeGreeting);
+    }
+}
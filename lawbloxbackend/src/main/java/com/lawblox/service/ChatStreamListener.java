@@ -0,0 +1,23 @@
+package com.lawblox.service;
+
+import com.lawblox.dto.GuidanceSection;
+import com.lawblox.model.LegalDomain;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Receives a chat response from LegalChatService one section at a time.
+ * The section contents, concatenated, equal the response processMessage returns.
+ */
+public interface ChatStreamListener {
+
+    /**
+     * Detected domains in code order and keywords in alphabetical order
+     */
+    void onDomains(Set<LegalDomain> domains, List<String> keywords);
+
+    void onSection(GuidanceSection section);
+
+    void onComplete();
+}
@@ -0,0 +1,51 @@
+package com.lawblox.service;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.LegalDomain;
+
+import java.util.Set;
+
+/**
+ * What KeywordMatcher found in one message: the legal domains as a
+ * LegalDomain bitmask and the keywords as a KeywordSet.
+ */
+public final class Detection {
+
+    private final KeywordSet keywords;
+    private int domainMask;
+
+    public Detection(KeywordSet keywords, int domainMask) {
+        this.keywords = keywords;
+        this.domainMask = domainMask;
+    }
+
+    /**
+     * Record a matched keyword; false if it was already matched
+     */
+    boolean add(int keywordId, int keywordDomains) {
+        if (!keywords.add(keywordId)) {
+            return false;
+        }
+        domainMask |= keywordDomains;
+        return true;
+    }
+
+    public boolean hasDomains() {
+        return domainMask != 0;
+    }
+
+    public int domainMask() {
+        return domainMask;
+    }
+
+    /**
+     * The domains in declaration (alphabetical) order
+     */
+    public Set<LegalDomain> domains() {
+        return LegalDomain.fromMask(domainMask);
+    }
+
+    public KeywordSet keywords() {
+        return keywords;
+    }
+}
@@ -0,0 +1,58 @@
+package com.lawblox.service;
+
+import morfologik.fsa.FSATraversal;
+import morfologik.fsa.MatchResult;
+import morfologik.stemming.Dictionary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The English word list (every inflected form, "policies", "complained") from
+ * LanguageTool's english-pos-dict. Typo correction only considers words that
+ * are not in it, so "polite" or "compliant" never turn into keywords.
+ *
+ * Entries are "word+lemma+tag" sequences in an immutable FSA, so a word is
+ * known when "word+" is a prefix of some entry. Lookups are thread-safe.
+ */
+public final class EnglishWords {
+
+    private static final String DICTIONARY = "/org/languagetool/resource/en/english.dict";
+
+    private final FSATraversal traversal;
+    private final byte separator;
+
+    private EnglishWords(Dictionary dictionary) {
+        this.traversal = new FSATraversal(dictionary.fsa);
+        this.separator = dictionary.metadata.getSeparator();
+    }
+
+    /**
+     * Read the dictionary from the classpath; takes a few hundred milliseconds,
+     * so load it once
+     */
+    public static EnglishWords load() {
+        URL url = EnglishWords.class.getResource(DICTIONARY);
+        if (url == null) {
+            throw new IllegalStateException("English dictionary not on the classpath: " + DICTIONARY);
+        }
+        try {
+            return new EnglishWords(Dictionary.read(url));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the English dictionary", e);
+        }
+    }
+
+    /**
+     * Whether word (lower case, as MessageNormalizer leaves it) is an English word
+     */
+    public boolean contains(String word) {
+        byte[] utf8 = word.getBytes(StandardCharsets.UTF_8);
+        byte[] key = new byte[utf8.length + 1];
+        System.arraycopy(utf8, 0, key, 0, utf8.length);
+        key[utf8.length] = separator;
+        return traversal.match(key).kind == MatchResult.SEQUENCE_IS_A_PREFIX;
+    }
+}
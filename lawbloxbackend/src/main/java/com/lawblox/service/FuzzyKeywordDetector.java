@@ -0,0 +1,63 @@
+package com.lawblox.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Second, typo-tolerant keyword pass ("evicton", "devorce", "custdy").
+ *
+ * Runs after the exact matcher on the words it could not resolve and gives
+ * up once the per-message budget is spent. The rescued counter is the number
+ * of messages that would otherwise have been answered with the help text.
+ */
+@Component
+public class FuzzyKeywordDetector {
+
+    private final boolean enabled;
+    private final long budgetNanos;
+
+    private final Counter matches;
+    private final Counter rescued;
+    private final Counter budgetExhausted;
+
+    public FuzzyKeywordDetector(MeterRegistry meterRegistry,
+                                @Value("${lawblox.keywords.fuzzy.enabled:true}") boolean enabled,
+                                @Value("${lawblox.keywords.fuzzy.budget:200us}") Duration budget) {
+        this.enabled = enabled;
+        this.budgetNanos = budget.toNanos();
+        this.matches = Counter.builder("lawblox.keywords.fuzzy.matches")
+                .description("Keywords recognised only after correcting a typo")
+                .register(meterRegistry);
+        this.rescued = Counter.builder("lawblox.keywords.fuzzy.rescued")
+                .description("Messages answered with guidance instead of the help text thanks to typo correction")
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("lawblox.keywords.fuzzy.budget.exhausted")
+                .description("Messages whose typo correction stopped at the time budget")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Add keywords and domains found by typo correction to the exact matches
+     */
+    public void detect(KeywordMatcher matcher, String normalized, Detection detection) {
+        if (!enabled) {
+            return;
+        }
+        boolean hadDomains = detection.hasDomains();
+        int exactKeywords = detection.keywords().size();
+        if (!matcher.matchFuzzy(normalized, detection, System.nanoTime() + budgetNanos)) {
+            budgetExhausted.increment();
+        }
+        int corrected = detection.keywords().size() - exactKeywords;
+        if (corrected > 0) {
+            matches.increment(corrected);
+            if (!hadDomains && detection.hasDomains()) {
+                rescued.increment();
+            }
+        }
+    }
+}
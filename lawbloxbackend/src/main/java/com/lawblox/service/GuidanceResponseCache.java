@@ -0,0 +1,42 @@
+package com.lawblox.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lawblox.model.KeywordSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Assembled responses keyed by the detected domains and keywords. The response
+ * depends on nothing else, and a few hundred combinations cover most traffic.
+ */
+@Component
+public class GuidanceResponseCache {
+
+    private final Cache<Key, RenderedGuidance> responses;
+
+    public GuidanceResponseCache(MeterRegistry meterRegistry,
+                                 @Value("${lawblox.guidance-cache.max-size:1000}") long maxSize,
+                                 @Value("${lawblox.guidance-cache.ttl:1h}") Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size, ...
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "guidanceResponses");
+    }
+
+    public RenderedGuidance get(Detection detection, Supplier<RenderedGuidance> render) {
+        return responses.get(new Key(detection.domainMask(), detection.keywords()), key -> render.get());
+    }
+
+    // KeywordSet compares ids, which KeywordCatalog keeps stable across refreshes
+    private record Key(int domainMask, KeywordSet keywords) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.lawblox.service;
+
+import com.lawblox.model.KeywordVocabulary;
+import com.lawblox.model.LegalDomain;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * The keyword catalog used for detection: the built-in keywords below merged
+ * with the keywords/keyword_category_map/legal_categories tables.
+ *
+ * Each load compiles a new immutable KeywordMatcher and swaps it in through a
+ * volatile field, so requests never block on a reload or see a half-built
+ * catalog. Keywords added in the database go live on the next refresh.
+ *
+ * Keyword ids come from KeywordVocabulary; a keyword that only exists in the
+ * database gets the next free id above it and keeps it for the life of the
+ * process, so cached responses stay valid across refreshes.
+ *
+ * The English word list that guards typo correction is loaded once with the
+ * built-in keywords and shared by every snapshot.
+ */
+@Slf4j
+@Component
+public class KeywordCatalog {
+
+    // Expanded keyword mapping to Indian legal domains
+    static final Map<LegalDomain, List<String>> BUILT_IN_KEYWORDS = Collections.unmodifiableMap(new EnumMap<>(Map.ofEntries(
+        Map.entry(LegalDomain.PROPERTY_LAW, Arrays.asList(
+            "property", "land", "house", "boundary", "fence", "encroachment", 
+            "neighbour", "neighbor", "deed", "title", "possession", "eviction",
+            "lease agreement", "rent", "tenant", "landlord", "property dispute",
+            "mutation", "registry", "stamp duty", "khata", "sale deed"
+        )),
+        Map.entry(LegalDomain.CRIMINAL_LAW, Arrays.asList(
+            "theft", "assault", "murder", "crime", "police", "arrest", "FIR", 
+            "bail", "accused", "victim", "complaint", "harassment", "robbery",
+            "kidnapping", "rape", "molestation", "cyber crime", "fraud", 
+            "cheating", "defamation", "IPC", "chargesheet", "anticipatory bail"
+        )),
+        Map.entry(LegalDomain.FAMILY_LAW, Arrays.asList(
+            "divorce", "marriage", "custody", "child", "alimony", "dowry", 
+            "adoption", "maintenance", "husband", "wife", "domestic violence",
+            "section 498A", "cruelty", "restitution", "conjugal rights", 
+            "guardianship", "visitation rights", "child support", "mutual consent",
+            "hindu marriage act", "special marriage act"
+        )),
+        Map.entry(LegalDomain.CONSTITUTIONAL_LAW, Arrays.asList(
+            "fundamental rights", "freedom", "speech", "discrimination", 
+            "equality", "right to life", "privacy", "search", "warrant", 
+            "civil rights", "article 21", "article 19", "article 14", 
+            "writ petition", "habeas corpus", "mandamus", "PIL", 
+            "public interest litigation", "supreme court", "high court"
+        )),
+        Map.entry(LegalDomain.CONSUMER_LAW, Arrays.asList(
+            "defective product", "refund", "warranty", "consumer forum", 
+            "complaint", "service", "deficiency", "compensation", "seller", 
+            "buyer", "consumer court", "replacement", "faulty goods",
+            "misleading advertisement", "unfair trade", "e-commerce dispute",
+            "online shopping", "national consumer helpline", "consumer protection act"
+        )),
+        Map.entry(LegalDomain.LABOR_LAW, Arrays.asList(
+            "employment", "termination", "salary", "wages", "wrongful dismissal", 
+            "workplace", "harassment at work", "EPF", "PF", "gratuity", "bonus",
+            "retrenchment", "industrial dispute", "labour court", "provident fund",
+            "ESI", "maternity leave", "notice period", "resignation", 
+            "sexual harassment", "posh act", "minimum wages"
+        )),
+        Map.entry(LegalDomain.TORT_LAW, Arrays.asList(
+            "injury", "accident", "negligence", "compensation", "medical negligence", 
+            "slip", "fall", "damage", "liability", "personal injury",
+            "motor accident", "hit and run", "insurance claim", "MACT",
+            "hospital negligence", "defamation", "nuisance", "trespass",
+            "strict liability", "vicarious liability"
+        )),
+        Map.entry(LegalDomain.INTELLECTUAL_PROPERTY, Arrays.asList(
+            "copyright", "trademark", "patent", "logo", "design", "plagiarism", 
+            "infringement", "brand", "piracy", "counterfeit", "intellectual property",
+            "IP rights", "registration", "licensing", "royalty", "trade secret",
+            "patent office", "copyright act", "trademark registry", "GI tag"
+        )),
+        Map.entry(LegalDomain.ENVIRONMENTAL_LAW, Arrays.asList(
+            "pollution", "environment", "noise pollution", "air pollution",
+            "water pollution", "industrial waste", "NGT", "green tribunal",
+            "environmental clearance", "forest rights", "wildlife protection",
+            "illegal mining", "deforestation", "hazardous waste", "emission",
+            "environmental impact", "pollution control board", "eco-sensitive zone",
+            "water act", "air act"
+        )),
+        Map.entry(LegalDomain.CYBER_LAW, Arrays.asList(
+            "hacking", "cyber crime", "phishing", "identity theft", "online fraud",
+            "data breach", "cyberbullying", "IT act", "section 66A", "section 67",
+            "morphing", "revenge porn", "email hacking", "social media crime",
+            "WhatsApp fraud", "UPI fraud", "banking fraud", "cyber cell",
+            "digital signature", "electronic evidence", "cyber security"
+        )),
+        Map.entry(LegalDomain.TAX_LAW, Arrays.asList(
+            "GST", "income tax", "tax evasion", "tax notice", "tax refund",
+            "assessment", "TDS", "tax appeal", "tax tribunal", "ITR",
+            "income tax return", "tax penalty", "customs duty", "excise",
+            "service tax", "tax audit", "tax investigation", "tax demand",
+            "advance tax", "capital gains", "taxation"
+        ))
+    )));
+
+    static final EnglishWords ENGLISH_WORDS = EnglishWords.load();
+
+    // Only categories mapped to one of our domains take part in detection
+    private static final String CATALOG_QUERY = """
+            SELECT lc.domain_code, k.keyword
+            FROM keyword_category_map m
+            JOIN keywords k ON k.keyword_id = m.keyword_id
+            JOIN legal_categories lc ON lc.category_id = m.category_id
+            WHERE lc.domain_code IS NOT NULL
+            ORDER BY m.map_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Database-only keyword -> id above the vocabulary; only ever grows
+    private final Map<String, Integer> storedKeywordIds = new HashMap<>();
+
+    private volatile KeywordMatcher matcher = KeywordMatcher.compile(BUILT_IN_KEYWORDS, this::keywordId, ENGLISH_WORDS);
+
+    public KeywordCatalog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Current snapshot; take it once per message
+     */
+    public KeywordMatcher matcher() {
+        return matcher;
+    }
+
+    // Ordered ahead of ChatDomainBackfill, which maps stored keywords through this catalog
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Scheduled(fixedDelayString = "${lawblox.catalog.refresh:PT5M}",
+               initialDelayString = "${lawblox.catalog.refresh:PT5M}")
+    public void refresh() {
+        Map<String, List<String>> stored = new LinkedHashMap<>();
+        try {
+            jdbcTemplate.query(CATALOG_QUERY, row -> {
+                stored.computeIfAbsent(row.getString(1).trim(), domain -> new ArrayList<>())
+                        .add(row.getString(2).trim());
+            });
+        } catch (DataAccessException e) {
+            // Keep serving the last snapshot (the built-in catalog at worst)
+            log.warn("Could not load the keyword catalog: {}", e.getMessage());
+            return;
+        }
+        Map<LegalDomain, List<String>> catalog = merge(BUILT_IN_KEYWORDS, stored);
+        matcher = KeywordMatcher.compile(catalog, this::keywordId, ENGLISH_WORDS);
+        log.info("Keyword catalog loaded: {} domains, {} stored keyword mappings",
+                catalog.size(), stored.values().stream().mapToInt(List::size).sum());
+    }
+
+    private synchronized int keywordId(String keyword) {
+        int id = KeywordVocabulary.id(keyword);
+        if (id >= 0) {
+            return id;
+        }
+        Integer stored = storedKeywordIds.get(keyword);
+        if (stored == null) {
+            stored = KeywordVocabulary.size() + storedKeywordIds.size();
+            storedKeywordIds.put(keyword, stored);
+        }
+        return stored;
+    }
+
+    /**
+     * Built-in keywords plus stored ones. A stored keyword that only differs in
+     * case from a known one ("fir" vs "FIR") reuses the known spelling.
+     */
+    static Map<LegalDomain, List<String>> merge(Map<LegalDomain, List<String>> builtIn,
+                                                Map<String, List<String>> stored) {
+        Map<LegalDomain, Set<String>> merged = new EnumMap<>(LegalDomain.class);
+        Map<String, String> spellings = new HashMap<>();
+        builtIn.forEach((domain, keywords) -> {
+            for (String keyword : keywords) {
+                merged.computeIfAbsent(domain, d -> new LinkedHashSet<>()).add(keyword);
+                spellings.putIfAbsent(keyword.toLowerCase(), keyword);
+            }
+        });
+        stored.forEach((code, keywords) -> {
+            LegalDomain domain = LegalDomain.fromCode(code);
+            if (domain == null) {
+                log.warn("Ignoring keywords for unknown domain code {}", code);
+                return;
+            }
+            for (String keyword : keywords) {
+                if (keyword.isEmpty()) {
+                    continue;
+                }
+                String spelling = spellings.computeIfAbsent(keyword.toLowerCase(), k -> keyword);
+                merged.computeIfAbsent(domain, d -> new LinkedHashSet<>()).add(spelling);
+            }
+        });
+
+        Map<LegalDomain, List<String>> catalog = new EnumMap<>(LegalDomain.class);
+        merged.forEach((domain, keywords) -> catalog.put(domain, List.copyOf(keywords)));
+        return catalog;
+    }
+}
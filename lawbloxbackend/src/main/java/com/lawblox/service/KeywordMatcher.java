@@ -0,0 +1,359 @@
+package com.lawblox.service;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.LegalDomain;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Aho-Corasick automaton over the legal keyword catalog.
+ *
+ * The catalog is compiled once into a dense transition table, so a message is
+ * scanned in a single left-to-right pass no matter how many keywords exist.
+ * Keywords and messages both go through MessageNormalizer, and a keyword only
+ * matches whole words: "land" matches "land" and "lands", not "landlord".
+ * Keywords are identified by the ids the catalog assigns (see KeywordVocabulary),
+ * and their domains by a LegalDomain bitmask.
+ *
+ * matchFuzzy adds a typo-tolerant pass for words the automaton cannot resolve
+ * and that are not English words (see EnglishWords).
+ */
+public final class KeywordMatcher {
+
+    private final int alphabetSize;
+    private final int[] asciiSymbols;      // char -> symbol for chars < 128, -1 if unused
+    private final char[] otherChars;       // sorted non-ASCII chars used by keywords
+    private final int[] otherSymbols;      // symbol for each entry in otherChars
+    private final int[] transitions;       // state * alphabetSize + symbol -> next state
+    private final int[] outputStart;       // state -> first index into outputs
+    private final int[] outputs;           // keyword ids ending at each state
+    private final int[] patternLengths;    // keyword id -> normalized length
+
+    private final String[] keywords;       // keyword id -> keyword as declared, null if unused
+    private final int[] keywordDomains;    // keyword id -> LegalDomain bitmask
+    private final Map<String, Integer> ids;  // keyword as declared -> id
+
+    // Typo candidates: first char -> ids of single-word keywords long enough to correct
+    private final Map<Character, int[]> fuzzyCandidates;
+    private final String[] patterns;       // keyword id -> normalized keyword
+    private final Set<String> vocabulary;  // every word of every normalized keyword
+    private final EnglishWords englishWords;
+    private final int longestFuzzyPattern;
+
+    // A typo is at most 1 edit from a 6-8 letter keyword, 2 from a longer one
+    private static final int MIN_FUZZY_LENGTH = 6;
+    private static final int TWO_EDIT_LENGTH = 9;
+
+    private KeywordMatcher(int alphabetSize, int[] asciiSymbols, char[] otherChars, int[] otherSymbols,
+                           int[] transitions, int[] outputStart, int[] outputs, int[] patternLengths,
+                           String[] keywords, int[] keywordDomains, String[] patterns, Map<String, Integer> ids,
+                           EnglishWords englishWords) {
+        this.alphabetSize = alphabetSize;
+        this.asciiSymbols = asciiSymbols;
+        this.otherChars = otherChars;
+        this.otherSymbols = otherSymbols;
+        this.transitions = transitions;
+        this.outputStart = outputStart;
+        this.outputs = outputs;
+        this.patternLengths = patternLengths;
+        this.keywords = keywords;
+        this.keywordDomains = keywordDomains;
+        this.patterns = patterns;
+        this.ids = ids;
+        this.englishWords = englishWords;
+
+        Map<Character, List<Integer>> candidates = new HashMap<>();
+        Set<String> words = new HashSet<>();
+        int longest = 0;
+        for (int id = 0; id < patterns.length; id++) {
+            String pattern = patterns[id];
+            if (pattern == null) {
+                continue;
+            }
+            words.addAll(Arrays.asList(pattern.split(" ")));
+            if (pattern.length() >= MIN_FUZZY_LENGTH && pattern.indexOf(' ') < 0) {
+                candidates.computeIfAbsent(pattern.charAt(0), c -> new ArrayList<>()).add(id);
+                longest = Math.max(longest, pattern.length());
+            }
+        }
+        Map<Character, int[]> fuzzy = new HashMap<>();
+        candidates.forEach((first, list) -> fuzzy.put(first, list.stream().mapToInt(Integer::intValue).toArray()));
+        this.fuzzyCandidates = fuzzy;
+        this.vocabulary = words;
+        this.longestFuzzyPattern = longest;
+    }
+
+    /**
+     * Compile a domain -> keywords catalog into a matcher; keywordIds gives
+     * each keyword its id, and words in englishWords are never typo-corrected
+     */
+    public static KeywordMatcher compile(Map<LegalDomain, ? extends Collection<String>> keywordsByDomain,
+                                         ToIntFunction<String> keywordIds, EnglishWords englishWords) {
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        Map<Integer, Integer> domainsById = new HashMap<>();
+        int size = 0;
+        for (Map.Entry<LegalDomain, ? extends Collection<String>> entry : keywordsByDomain.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                int id = ids.computeIfAbsent(keyword, keywordIds::applyAsInt);
+                domainsById.merge(id, entry.getKey().bit(), (a, b) -> a | b);
+                size = Math.max(size, id + 1);
+            }
+        }
+
+        String[] keywords = new String[size];
+        int[] keywordDomains = new int[size];
+        String[] patterns = new String[size];
+        int[] patternLengths = new int[size];
+        ids.forEach((keyword, id) -> {
+            keywords[id] = keyword;
+            keywordDomains[id] = domainsById.get(id);
+            patterns[id] = MessageNormalizer.normalize(keyword);
+            patternLengths[id] = patterns[id].length();
+        });
+
+        // Alphabet: only characters that occur in some keyword get a symbol
+        TreeSet<Character> alphabet = new TreeSet<>();
+        for (String pattern : patterns) {
+            if (pattern == null) {
+                continue;
+            }
+            for (int i = 0; i < pattern.length(); i++) {
+                alphabet.add(pattern.charAt(i));
+            }
+        }
+        int alphabetSize = alphabet.size();
+        int[] asciiSymbols = new int[128];
+        Arrays.fill(asciiSymbols, -1);
+        char[] otherChars = new char[alphabetSize];
+        int[] otherSymbols = new int[alphabetSize];
+        int otherCount = 0;
+        int symbol = 0;
+        for (char c : alphabet) {
+            if (c < 128) {
+                asciiSymbols[c] = symbol;
+            } else {
+                otherChars[otherCount] = c;
+                otherSymbols[otherCount] = symbol;
+                otherCount++;
+            }
+            symbol++;
+        }
+        otherChars = Arrays.copyOf(otherChars, otherCount);
+        otherSymbols = Arrays.copyOf(otherSymbols, otherCount);
+
+        // Trie; a transition value of 0 means "no child" since nothing points back to the root
+        int maxStates = 1;
+        for (String pattern : patterns) {
+            maxStates += pattern == null ? 0 : pattern.length();
+        }
+        int[] transitions = new int[maxStates * alphabetSize];
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        stateOutputs.add(new ArrayList<>());
+        int stateCount = 1;
+        for (int id = 0; id < patterns.length; id++) {
+            String pattern = patterns[id];
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int index = state * alphabetSize
+                        + symbolOf(pattern.charAt(i), asciiSymbols, otherChars, otherSymbols);
+                if (transitions[index] == 0) {
+                    transitions[index] = stateCount++;
+                    stateOutputs.add(new ArrayList<>());
+                }
+                state = transitions[index];
+            }
+            stateOutputs.get(state).add(id);
+        }
+
+        // Breadth-first pass: failure links, then fold them into a complete DFA
+        int[] failure = new int[stateCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int s = 0; s < alphabetSize; s++) {
+            int child = transitions[s];
+            if (child != 0) {
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int fallbackRow = failure[state] * alphabetSize;
+            for (int s = 0; s < alphabetSize; s++) {
+                int index = state * alphabetSize + s;
+                int child = transitions[index];
+                if (child != 0) {
+                    failure[child] = transitions[fallbackRow + s];
+                    stateOutputs.get(child).addAll(stateOutputs.get(failure[child]));
+                    queue.add(child);
+                } else {
+                    transitions[index] = transitions[fallbackRow + s];
+                }
+            }
+        }
+
+        int[] outputStart = new int[stateCount + 1];
+        for (int state = 0; state < stateCount; state++) {
+            outputStart[state + 1] = outputStart[state] + stateOutputs.get(state).size();
+        }
+        int[] outputs = new int[outputStart[stateCount]];
+        for (int state = 0; state < stateCount; state++) {
+            List<Integer> stateIds = stateOutputs.get(state);
+            for (int i = 0; i < stateIds.size(); i++) {
+                outputs[outputStart[state] + i] = stateIds.get(i);
+            }
+        }
+
+        return new KeywordMatcher(alphabetSize, asciiSymbols, otherChars, otherSymbols,
+                Arrays.copyOf(transitions, stateCount * alphabetSize), outputStart, outputs, patternLengths,
+                keywords, keywordDomains, patterns, Map.copyOf(ids), englishWords);
+    }
+
+    /**
+     * Scan normalized text (see MessageNormalizer) once and collect every matched keyword and its domains
+     */
+    public Detection match(CharSequence text) {
+        Detection detection = new Detection(new KeywordSet(keywords), 0);
+        KeywordSet matched = detection.keywords();
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            int symbol = symbolOf(text.charAt(i), asciiSymbols, otherChars, otherSymbols);
+            state = symbol < 0 ? 0 : transitions[state * alphabetSize + symbol];
+            for (int o = outputStart[state], end = outputStart[state + 1]; o < end; o++) {
+                int id = outputs[o];
+                if (!matched.contains(id) && isWholeWord(text, i + 1 - patternLengths[id], i + 1)) {
+                    detection.add(id, keywordDomains[id]);
+                }
+            }
+        }
+        return detection;
+    }
+
+    /**
+     * LegalDomain bitmask of a keyword as declared, 0 if it is not in the catalog
+     */
+    public int domainMask(String keyword) {
+        Integer id = ids.get(keyword);
+        return id == null ? 0 : keywordDomains[id];
+    }
+
+    /**
+     * Typo-tolerant pass over normalized text: each word that is neither part
+     * of a keyword nor an English word is compared with the keywords sharing
+     * its first letter, and
+     * a single closest keyword within the allowed edit distance counts as
+     * matched ("evicton" -> eviction). Words are checked until deadlineNanos
+     * (System.nanoTime).
+     *
+     * @return false if the deadline cut the pass short
+     */
+    public boolean matchFuzzy(String text, Detection detection, long deadlineNanos) {
+        int[][] rows = new int[2][longestFuzzyPattern + 2];
+        int start = 0;
+        int length = text.length();
+        while (start < length) {
+            int end = text.indexOf(' ', start);
+            if (end < 0) {
+                end = length;
+            }
+            int[] candidates = fuzzyCandidates.get(text.charAt(start));
+            if (candidates != null && end - start >= MIN_FUZZY_LENGTH - 1) {
+                if (System.nanoTime() - deadlineNanos > 0) {
+                    return false;
+                }
+                String word = text.substring(start, end);
+                if (!vocabulary.contains(word) && !englishWords.contains(word)) {
+                    int id = closestKeyword(text, start, end, candidates, rows);
+                    if (id < 0 && text.charAt(end - 1) == 's') {
+                        id = closestKeyword(text, start, end - 1, candidates, rows);
+                    }
+                    if (id >= 0) {
+                        detection.add(id, keywordDomains[id]);
+                    }
+                }
+            }
+            start = end + 1;
+        }
+        return true;
+    }
+
+    // The one keyword within reach of text[start, end), or -1 if none or several are equally close
+    private int closestKeyword(String text, int start, int end, int[] candidates, int[][] rows) {
+        int length = end - start;
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        boolean tie = false;
+        for (int id : candidates) {
+            String pattern = patterns[id];
+            int maxDistance = Math.min(length, pattern.length()) >= TWO_EDIT_LENGTH ? 2 : 1;
+            int distance = boundedDistance(text, start, end, pattern, Math.min(maxDistance, bestDistance), rows);
+            if (distance < bestDistance) {
+                best = id;
+                bestDistance = distance;
+                tie = false;
+            } else if (distance == bestDistance) {
+                tie = true;
+            }
+        }
+        return best < 0 || tie || bestDistance == 0 ? -1 : best;
+    }
+
+    /**
+     * Levenshtein distance between text[start, end) and b, or Integer.MAX_VALUE
+     * once it is certain to exceed max; rows are two scratch rows longer than b
+     */
+    static int boundedDistance(String text, int start, int end, String b, int max, int[][] rows) {
+        if (Math.abs(end - start - b.length()) > max) {
+            return Integer.MAX_VALUE;
+        }
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= end - start; i++) {
+            current[0] = i;
+            int rowMin = i;
+            char c = text.charAt(start + i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = c == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return Integer.MAX_VALUE;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int distance = previous[b.length()];
+        return distance <= max ? distance : Integer.MAX_VALUE;
+    }
+
+    // Normalized text separates words with single spaces; a plural "s"/"es" still counts
+    private static boolean isWholeWord(CharSequence text, int start, int end) {
+        if (start > 0 && text.charAt(start - 1) != ' ') {
+            return false;
+        }
+        int length = text.length();
+        return isWordEnd(text, end)
+                || (end < length && text.charAt(end) == 's' && isWordEnd(text, end + 1))
+                || (end + 1 < length && text.charAt(end) == 'e' && text.charAt(end + 1) == 's'
+                        && isWordEnd(text, end + 2));
+    }
+
+    private static boolean isWordEnd(CharSequence text, int index) {
+        return index == text.length() || text.charAt(index) == ' ';
+    }
+
+    private static int symbolOf(char c, int[] asciiSymbols, char[] otherChars, int[] otherSymbols) {
+        if (c < 128) {
+            return asciiSymbols[c];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index < 0 ? -1 : otherSymbols[index];
+    }
+}
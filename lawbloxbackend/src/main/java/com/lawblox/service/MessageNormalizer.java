@@ -0,0 +1,114 @@
+package com.lawblox.service;
+
+import java.text.Normalizer;
+
+/**
+ * Canonical form of a chat message for greeting and keyword detection.
+ *
+ * The text is NFKC-folded (full-width letters, ligatures, ...) and lowercased,
+ * and every run of characters that is not a letter or digit (punctuation,
+ * emoji, whitespace) becomes a single space. A few joiners are dropped
+ * instead, keeping a word whole: apostrophes inside a word ("don't"), the
+ * dots of an initialism made only of single letters ("I.P.C."), and a hyphen
+ * before a section letter ("498-A"). Any other dot or hyphen separates words,
+ * so "notice.what" and "anti-dowry" still contain "notice" and "dowry". The
+ * result is a sequence of tokens separated by one space, capped at MAX_LENGTH
+ * characters so detection cost stays bounded whatever a client pastes in.
+ */
+public final class MessageNormalizer {
+
+    public static final int MAX_LENGTH = 2000;
+
+    private MessageNormalizer() {
+    }
+
+    public static String normalize(String message) {
+        return normalize(message, MAX_LENGTH);
+    }
+
+    /**
+     * Same canonical form without the MAX_LENGTH cap, for indexing documents
+     * that are longer than any chat message
+     */
+    public static String normalizeDocument(String text) {
+        return normalize(text, Integer.MAX_VALUE);
+    }
+
+    private static String normalize(String message, int maxLength) {
+        String text = message.length() > maxLength ? message.substring(0, maxLength) : message;
+        if (!Normalizer.isNormalized(text, Normalizer.Form.NFKC)) {
+            text = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        }
+
+        int length = Math.min(text.length(), maxLength);
+        char[] normalized = new char[length];
+        int size = 0;
+        boolean inWord = false;
+        boolean initialism = false;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (isWordChar(c)) {
+                if (!inWord) {
+                    if (size > 0) {
+                        normalized[size++] = ' ';
+                    }
+                    inWord = true;
+                    initialism = isInitialism(text, i, length);
+                }
+                normalized[size++] = Character.toLowerCase(c);
+            } else if (inWord && i + 1 < length && isWordChar(text.charAt(i + 1))
+                    && joins(text, i, length, initialism)) {
+                continue;
+            } else {
+                inWord = false;
+            }
+        }
+        return new String(normalized, 0, size);
+    }
+
+    // text[i] sits between two word characters: "don't" -> "dont", "I.P.C" -> "ipc", "498-A" -> "498a"
+    private static boolean joins(String text, int i, int length, boolean initialism) {
+        char c = text.charAt(i);
+        if (c == '\'' || c == '\u2019') {
+            return true;
+        }
+        if (c == '.') {
+            return initialism;
+        }
+        return c == '-'
+                && Character.isDigit(text.charAt(i - 1))
+                && Character.isLetter(text.charAt(i + 1))
+                && (i + 2 == length || !isWordChar(text.charAt(i + 2)));
+    }
+
+    // Two or more single letters separated by dots, starting at start: "I.P.C", "U.S.A."
+    private static boolean isInitialism(String text, int start, int length) {
+        int letters = 0;
+        int i = start;
+        while (i < length && Character.isLetter(text.charAt(i))) {
+            letters++;
+            i++;
+            if (i < length && isWordChar(text.charAt(i))) {
+                return false;
+            }
+            if (i + 1 < length && text.charAt(i) == '.') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return letters >= 2;
+    }
+
+    private static boolean isWordChar(char c) {
+        if (c < 128) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+        if (Character.isLetterOrDigit(c)) {
+            return true;
+        }
+        // Vowel signs and other marks are part of the word in Indic scripts
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+}
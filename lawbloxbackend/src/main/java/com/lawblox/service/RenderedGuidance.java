@@ -0,0 +1,23 @@
+package com.lawblox.service;
+
+import com.lawblox.dto.GuidanceSection;
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.util.PreEncodedJson;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A fully assembled response for one domain/keyword combination. Cached and
+ * shared between requests, so the lists are unmodifiable and never mutated.
+ * json is the complete /api/chat/message body for the combination; jsonHead
+ * is the same body up to its last suggested case, for appending more.
+ */
+@Value
+public class RenderedGuidance {
+    String text;
+    List<GuidanceSection> sections;
+    List<LegalCaseSuggestion> suggestions;
+    PreEncodedJson json;
+    PreEncodedJson jsonHead;
+}
@@ -0,0 +1,62 @@
+package com.lawblox.service;
+
+/**
+ * Constant parts of chat responses, compiled once. A response is these
+ * fragments concatenated with the few dynamic values (name, keyword list).
+ */
+final class ResponseTemplates {
+
+    static final String GOOD_MORNING = "Good morning, ";
+    static final String GOOD_AFTERNOON = "Good afternoon, ";
+    static final String GOOD_EVENING = "Good evening, ";
+
+    // Follows "<time of day>, <first name>"
+    static final String GREETING_BODY = "! 👋\n\n" +
+        "Welcome to LawBlox, your legal assistant for Indian law matters.\n\n" +
+        "I can help you with:\n" +
+        "• Property disputes and real estate issues\n" +
+        "• Criminal matters and FIR guidance\n" +
+        "• Family law and matrimonial cases\n" +
+        "• Consumer complaints and refunds\n" +
+        "• Employment and workplace issues\n" +
+        "• Tax notices and GST matters\n" +
+        "• Cyber crimes and online fraud\n" +
+        "• Environmental violations\n" +
+        "• Intellectual property rights\n\n" +
+        "Simply describe your legal concern, and I'll guide you with relevant laws, " +
+        "procedures, and landmark cases specific to Indian jurisdiction.";
+
+    static final String HELP = "I'm not sure I understand 🤔\n\n" +
+        "To help you better, try describing your issue using keywords related to:\n\n" +
+        "📜 **Property Law**: property dispute, eviction, lease, boundary, encroachment\n" +
+        "⚖️ **Criminal Law**: FIR, theft, assault, bail, complaint, fraud\n" +
+        "👨‍👩‍👧 **Family Law**: divorce, custody, alimony, domestic violence, maintenance\n" +
+        "🗽 **Constitutional Law**: fundamental rights, discrimination, privacy, writ petition\n" +
+        "🛒 **Consumer Law**: defective product, refund, consumer forum, warranty\n" +
+        "💼 **Labor Law**: wrongful termination, salary, PF, workplace harassment\n" +
+        "🩹 **Tort/Accident Law**: accident, negligence, compensation, injury\n" +
+        "💡 **Intellectual Property**: copyright, trademark, patent, infringement\n" +
+        "🌍 **Environmental Law**: pollution, NGT, waste, forest rights\n" +
+        "💻 **Cyber Law**: hacking, online fraud, cyber crime, data breach\n" +
+        "💰 **Tax Law**: GST, income tax, tax notice, refund, ITR\n\n" +
+        "**Example**: \"My landlord is not returning my security deposit\" or " +
+        "\"I received a GST notice for my business\"";
+
+    // Followed by the detected keywords and a blank line
+    static final String ANALYSIS_HEADER = "🏛️ **Legal Analysis**\n\n" +
+        "Based on your query, I've identified the following legal areas:\n" +
+        "**Detected Keywords**: ";
+
+    static final String CONTACTS_AND_DISCLAIMER = "\n---\n\n" +
+        "📞 **Quick Contact References**:\n" +
+        "• Legal Aid Services: Dial 15100 (Pan-India)\n" +
+        "• National Consumer Helpline: 1800-11-4000\n" +
+        "• Cyber Crime Helpline: 1930\n" +
+        "• Women Helpline: 181\n\n" +
+        "⚠️ **Important Disclaimer**: This guidance is based on keyword analysis and general legal " +
+        "principles under Indian law. For your specific situation, please consult a qualified " +
+        "advocate registered with the Bar Council of India.";
+
+    private ResponseTemplates() {
+    }
+}
@@ -1,20 +1,29 @@
 package com.lawblox.service;
 
+import com.lawblox.diagnostics.PasswordCheckEvent;
 import com.lawblox.dto.*;
+import com.lawblox.metrics.PipelineMetrics;
+import com.lawblox.metrics.PipelineMetrics.Stage;
 import com.lawblox.model.User;
+import com.lawblox.security.PasswordBulkhead;
 import com.lawblox.repository.UserRepository;
 import com.lawblox.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordBulkhead passwordBulkhead;
     private final JwtUtil jwtUtil;
+    private final PipelineMetrics metrics;
     
     public AuthResponse signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -24,12 +33,12 @@ public class UserService {
         User user = User.builder()
                 .firstName(request.getFirstName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordBulkhead.call(() -> passwordEncoder.encode(request.getPassword())))
                 .build();
         
         userRepository.save(user);
         
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user);
         
         return AuthResponse.builder()
                 .token(token)
@@ -40,14 +49,18 @@ public class UserService {
     }
     
     public AuthResponse login(LoginRequest request) {
+        long started = System.nanoTime();
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+        metrics.record(Stage.USER_LOOKUP, started);
         
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordMatches(request.getPassword(), user.getPassword())
+                || Boolean.FALSE.equals(user.getIsActive())) {
             throw new RuntimeException("Invalid credentials");
         }
+        rehashIfOutdated(user, request.getPassword());
         
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user);
         
         return AuthResponse.builder()
                 .token(token)
@@ -56,4 +69,32 @@ public class UserService {
                 .message("Login successful")
                 .build();
     }
+    
+    private boolean passwordMatches(String rawPassword, String passwordHash) {
+        PasswordCheckEvent event = new PasswordCheckEvent();
+        event.begin();
+        long started = System.nanoTime();
+        boolean matched = passwordBulkhead.call(() -> passwordEncoder.matches(rawPassword, passwordHash));
+        metrics.record(Stage.PASSWORD, started);
+        event.end();
+        if (event.shouldCommit()) {
+            event.matched = matched;
+            event.commit();
+        }
+        return matched;
+    }
+    
+    // Unprefixed or below the current BCrypt cost: the login has the raw password, so store a fresh hash
+    private void rehashIfOutdated(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordBulkhead.call(() -> passwordEncoder.encode(rawPassword)));
+            userRepository.save(user);
+        } catch (ResponseStatusException e) {
+            // Hashing pool is busy; the login still succeeds and the next one retries
+            log.debug("Skipped password rehash for user {}: {}", user.getId(), e.getReason());
+        }
+    }
 }
\ No newline at end of file
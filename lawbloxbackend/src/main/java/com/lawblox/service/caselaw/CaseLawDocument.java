@@ -0,0 +1,18 @@
+package com.lawblox.service.caselaw;
+
+/**
+ * One judgment summary from the corpus. summary is indexed but not returned.
+ */
+record CaseLawDocument(String caseName, String caseUrl, String domain,
+                       String keyTakeaway, String practicalAdvice, String summary) {
+
+    String indexedText() {
+        StringBuilder text = new StringBuilder(caseName);
+        for (String field : new String[]{keyTakeaway, practicalAdvice, summary}) {
+            if (field != null) {
+                text.append(' ').append(field);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,324 @@
+package com.lawblox.service.caselaw;
+
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.service.MessageNormalizer;
+import com.lawblox.util.ChatJson;
+import com.lawblox.util.Utf8Fragment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable BM25 inverted index over a case-law corpus, read from one segment.
+ *
+ * Segment layout, big-endian:
+ * <pre>
+ * header      int magic, int version, int docCount, int termCount, float avgDocLength
+ * docLengths  int[docCount]
+ * docOffsets  int[docCount]               start of each stored document
+ * dictionary  termCount x (short n, byte[n] UTF-8 term, int df, int postingsOffset)
+ * postings    per term, df x (int doc, int tf)
+ * stored      per document, 5 x (int n, byte[n] UTF-8), n = -1 for null:
+ *             caseName, caseUrl, domain, keyTakeaway, practicalAdvice
+ * </pre>
+ * Only the dictionary is copied onto the heap when a segment is opened;
+ * postings and stored documents are read in place, so a memory-mapped
+ * segment costs no indexing at startup.
+ */
+final class CaseLawIndex {
+
+    static final int VERSION = 3;
+    private static final int MAGIC = 0x4C42434C; // "LBCL"
+    private static final int HEADER_BYTES = 20;
+
+    // Standard BM25 parameters
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "about", "after", "all", "also", "am", "an", "and", "any", "are", "as", "at", "be", "been",
+        "before", "but", "by", "can", "could", "did", "do", "does", "for", "from", "had", "has", "have",
+        "he", "her", "him", "his", "how", "i", "if", "in", "into", "is", "it", "its", "me", "my", "no",
+        "not", "of", "on", "or", "our", "she", "should", "so", "some", "than", "that", "the", "their",
+        "them", "then", "there", "they", "this", "to", "under", "until", "up", "us", "v", "vs", "was",
+        "we", "were", "what", "when", "which", "who", "why", "will", "with", "would", "you", "your"
+    );
+
+    private final ByteBuffer segment;
+    private final int docCount;
+    private final float avgDocLength;
+    private final Map<String, Term> dictionary;
+    private final AtomicReferenceArray<LegalCaseSuggestion> suggestions;
+    private final AtomicReferenceArray<Utf8Fragment> suggestionsJson;
+
+    private record Term(int postings, int df, float idf) {
+    }
+
+    private CaseLawIndex(ByteBuffer segment) {
+        this.segment = segment;
+        if (segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a version " + VERSION + " case-law segment");
+        }
+        this.docCount = segment.getInt(8);
+        int termCount = segment.getInt(12);
+        this.avgDocLength = segment.getFloat(16);
+
+        Map<String, Term> terms = new HashMap<>(termCount * 2);
+        int position = HEADER_BYTES + 8 * docCount;
+        for (int i = 0; i < termCount; i++) {
+            int length = segment.getShort(position) & 0xFFFF;
+            byte[] bytes = new byte[length];
+            segment.get(position + 2, bytes);
+            int df = segment.getInt(position + 2 + length);
+            int postings = segment.getInt(position + 6 + length);
+            float idf = (float) Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            terms.put(new String(bytes, StandardCharsets.UTF_8), new Term(postings, df, idf));
+            position += 10 + length;
+        }
+        this.dictionary = terms;
+        this.suggestions = new AtomicReferenceArray<>(docCount);
+        this.suggestionsJson = new AtomicReferenceArray<>(docCount);
+    }
+
+    /**
+     * Open a segment, typically a read-only MappedByteBuffer
+     */
+    static CaseLawIndex open(ByteBuffer segment) {
+        return new CaseLawIndex(segment.asReadOnlyBuffer());
+    }
+
+    int size() {
+        return docCount;
+    }
+
+    /**
+     * Documents for the message, best first, at most limit of them. A document
+     * needs at least minScore and at least minRelativeScore times the best
+     * score; documents for which skip returns true are passed over.
+     */
+    int[] search(String normalizedMessage, int limit, float minScore, float minRelativeScore, IntPredicate skip) {
+        float[] scores = new float[docCount];
+        Set<String> seen = new HashSet<>();
+        terms(normalizedMessage, token -> {
+            Term term = dictionary.get(token);
+            if (term == null || !seen.add(token)) {
+                return;
+            }
+            int position = term.postings();
+            for (int i = 0; i < term.df(); i++, position += 8) {
+                int doc = segment.getInt(position);
+                int tf = segment.getInt(position + 4);
+                float lengthNorm = K1 * (1 - B + B * segment.getInt(HEADER_BYTES + 4 * doc) / avgDocLength);
+                scores[doc] += term.idf() * tf * (K1 + 1) / (tf + lengthNorm);
+            }
+        });
+
+        // limit is a handful, so repeated selection beats sorting every score
+        int[] top = new int[limit];
+        int found = 0;
+        float threshold = minScore;
+        boolean first = true;
+        while (found < limit) {
+            int best = -1;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (scores[doc] >= threshold && (best < 0 || scores[doc] > scores[best])) {
+                    best = doc;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            if (first) {
+                threshold = Math.max(minScore, scores[best] * minRelativeScore);
+                first = false;
+            }
+            scores[best] = Float.NEGATIVE_INFINITY;
+            if (!skip.test(best)) {
+                top[found++] = best;
+            }
+        }
+        return found == limit ? top : Arrays.copyOf(top, found);
+    }
+
+    /**
+     * The stored document as a suggestion, decoded once and then shared
+     */
+    LegalCaseSuggestion suggestion(int doc) {
+        LegalCaseSuggestion suggestion = suggestions.get(doc);
+        if (suggestion == null) {
+            int position = segment.getInt(HEADER_BYTES + 4 * docCount + 4 * doc);
+            String[] fields = new String[5];
+            for (int i = 0; i < fields.length; i++) {
+                int length = segment.getInt(position);
+                position += 4;
+                if (length >= 0) {
+                    byte[] bytes = new byte[length];
+                    segment.get(position, bytes);
+                    fields[i] = new String(bytes, StandardCharsets.UTF_8);
+                    position += length;
+                }
+            }
+            suggestion = new LegalCaseSuggestion(fields[0], fields[1], fields[3], fields[2], fields[4]);
+            suggestions.compareAndSet(doc, null, suggestion);
+            suggestion = suggestions.get(doc);
+        }
+        return suggestion;
+    }
+
+    /**
+     * suggestion(doc) as a JSON object, encoded once
+     */
+    Utf8Fragment suggestionJson(int doc) {
+        Utf8Fragment json = suggestionsJson.get(doc);
+        if (json == null) {
+            suggestionsJson.compareAndSet(doc, null, Utf8Fragment.raw(ChatJson.write(suggestion(doc))));
+            json = suggestionsJson.get(doc);
+        }
+        return json;
+    }
+
+    /**
+     * Build the segment bytes for a corpus
+     */
+    static byte[] build(List<CaseLawDocument> documents) {
+        int docCount = documents.size();
+        int[] lengths = new int[docCount];
+        // term -> doc -> tf, terms sorted so segments are reproducible
+        SortedMap<String, SortedMap<Integer, Integer>> postings = new TreeMap<>();
+        long totalLength = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            int finalDoc = doc;
+            int[] length = {0};
+            terms(MessageNormalizer.normalizeDocument(documents.get(doc).indexedText()), token -> {
+                postings.computeIfAbsent(token, t -> new TreeMap<>()).merge(finalDoc, 1, Integer::sum);
+                length[0]++;
+            });
+            lengths[doc] = length[0];
+            totalLength += length[0];
+        }
+
+        List<byte[]> termBytes = new ArrayList<>(postings.size());
+        int dictionaryBytes = 0;
+        for (String term : postings.keySet()) {
+            byte[] bytes = term.getBytes(StandardCharsets.UTF_8);
+            termBytes.add(bytes);
+            dictionaryBytes += 10 + bytes.length;
+        }
+        int postingsStart = HEADER_BYTES + 8 * docCount + dictionaryBytes;
+        int postingCount = 0;
+        for (SortedMap<Integer, Integer> termPostings : postings.values()) {
+            postingCount += termPostings.size();
+        }
+        int storedStart = postingsStart + 8 * postingCount;
+
+        List<byte[]> stored = new ArrayList<>(docCount);
+        int[] docOffsets = new int[docCount];
+        int offset = storedStart;
+        for (int doc = 0; doc < docCount; doc++) {
+            docOffsets[doc] = offset;
+            byte[] bytes = storedFields(documents.get(doc));
+            stored.add(bytes);
+            offset += bytes.length;
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(offset);
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(docCount);
+            out.writeInt(postings.size());
+            out.writeFloat(docCount == 0 ? 1 : Math.max(1, (float) totalLength / docCount));
+            for (int length : lengths) {
+                out.writeInt(length);
+            }
+            for (int docOffset : docOffsets) {
+                out.writeInt(docOffset);
+            }
+            int postingsOffset = postingsStart;
+            int t = 0;
+            for (SortedMap<Integer, Integer> termPostings : postings.values()) {
+                byte[] bytes = termBytes.get(t++);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+                out.writeInt(termPostings.size());
+                out.writeInt(postingsOffset);
+                postingsOffset += 8 * termPostings.size();
+            }
+            for (SortedMap<Integer, Integer> termPostings : postings.values()) {
+                for (Map.Entry<Integer, Integer> posting : termPostings.entrySet()) {
+                    out.writeInt(posting.getKey());
+                    out.writeInt(posting.getValue());
+                }
+            }
+            for (byte[] bytes : stored) {
+                out.write(bytes);
+            }
+            out.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] storedFields(CaseLawDocument document) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            for (String field : new String[]{document.caseName(), document.caseUrl(), document.domain(),
+                    document.keyTakeaway(), document.practicalAdvice()}) {
+                if (field == null) {
+                    out.writeInt(-1);
+                } else {
+                    byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Index terms of MessageNormalizer output: stop words dropped, plurals folded
+     */
+    static void terms(String normalized, Consumer<String> consumer) {
+        int start = 0;
+        int length = normalized.length();
+        while (start < length) {
+            int end = normalized.indexOf(' ', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end - start > 1) {
+                String token = normalized.substring(start, end);
+                if (!STOP_WORDS.contains(token)) {
+                    consumer.accept(stem(token));
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    // "rights" -> "right", "cases" -> "case"; leaves "process", "status", "analysis"
+    private static String stem(String token) {
+        int length = token.length();
+        if (length > 3 && token.charAt(length - 1) == 's') {
+            char before = token.charAt(length - 2);
+            if (before != 's' && before != 'u' && before != 'i') {
+                return token.substring(0, length - 1);
+            }
+        }
+        return token;
+    }
+}
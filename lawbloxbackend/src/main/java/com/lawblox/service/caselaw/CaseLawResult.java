@@ -0,0 +1,23 @@
+package com.lawblox.service.caselaw;
+
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.util.Utf8Fragment;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Cases retrieved for one message, best first, with each case's JSON
+ */
+@Value
+public class CaseLawResult {
+
+    public static final CaseLawResult EMPTY = new CaseLawResult(List.of(), List.of());
+
+    List<LegalCaseSuggestion> cases;
+    List<Utf8Fragment> casesJson;
+
+    public boolean isEmpty() {
+        return cases.isEmpty();
+    }
+}
@@ -0,0 +1,192 @@
+package com.lawblox.service.caselaw;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.util.Utf8Fragment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Full-text search for landmark cases related to a chat message.
+ *
+ * The corpus is JSON-lines files of judgment summaries (caseName, caseUrl,
+ * domain, keyTakeaway, practicalAdvice, summary), by default the ones shipped
+ * in classpath:caselaw/. It is indexed once into a segment file named after
+ * a hash of the corpus; later starts memory-map that file instead of
+ * re-indexing.
+ */
+@Slf4j
+@Component
+public class CaseLawSearch {
+
+    private static final String SEGMENT_PREFIX = "caselaw-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final CaseLawIndex index;
+    private final int topK;
+    private final float minScore;
+    private final float minRelativeScore;
+
+    public CaseLawSearch(ResourcePatternResolver resources,
+                         @Value("${lawblox.caselaw.enabled:true}") boolean enabled,
+                         @Value("${lawblox.caselaw.corpus:classpath*:caselaw/*.jsonl}") String[] corpus,
+                         @Value("${lawblox.caselaw.index-dir:${java.io.tmpdir}/lawblox-caselaw}") Path indexDir,
+                         @Value("${lawblox.caselaw.top-k:3}") int topK,
+                         @Value("${lawblox.caselaw.min-score:4.0}") float minScore,
+                         @Value("${lawblox.caselaw.min-relative-score:0.6}") float minRelativeScore) {
+        this.topK = topK;
+        this.minScore = minScore;
+        this.minRelativeScore = minRelativeScore;
+        this.index = enabled && topK > 0 ? load(resources, corpus, indexDir) : null;
+    }
+
+    /**
+     * Up to top-k cases for the message, leaving out cases already suggested
+     */
+    public CaseLawResult search(String normalizedMessage, List<LegalCaseSuggestion> alreadySuggested) {
+        if (index == null) {
+            return CaseLawResult.EMPTY;
+        }
+        Set<String> names = new HashSet<>();
+        for (LegalCaseSuggestion suggestion : alreadySuggested) {
+            names.add(suggestion.getCaseName());
+        }
+        int[] docs = index.search(normalizedMessage, topK, minScore, minRelativeScore,
+                doc -> !names.add(index.suggestion(doc).getCaseName()));
+        if (docs.length == 0) {
+            return CaseLawResult.EMPTY;
+        }
+        LegalCaseSuggestion[] cases = new LegalCaseSuggestion[docs.length];
+        Utf8Fragment[] json = new Utf8Fragment[docs.length];
+        for (int i = 0; i < docs.length; i++) {
+            cases[i] = index.suggestion(docs[i]);
+            json[i] = index.suggestionJson(docs[i]);
+        }
+        return new CaseLawResult(List.of(cases), List.of(json));
+    }
+
+    private static CaseLawIndex load(ResourcePatternResolver resources, String[] corpus, Path indexDir) {
+        try {
+            List<Resource> files = new ArrayList<>();
+            for (String pattern : corpus) {
+                files.addAll(Arrays.asList(resources.getResources(pattern.trim())));
+            }
+            files.sort(Comparator.comparing(Resource::getDescription));
+
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(Integer.toString(CaseLawIndex.VERSION).getBytes(StandardCharsets.US_ASCII));
+            List<byte[]> contents = new ArrayList<>(files.size());
+            for (Resource file : files) {
+                byte[] content = file.getContentAsByteArray();
+                contents.add(content);
+                sha256.update(content);
+            }
+            String fingerprint = HexFormat.of().formatHex(sha256.digest(), 0, 12);
+            Path segment = indexDir.resolve(SEGMENT_PREFIX + fingerprint + SEGMENT_SUFFIX);
+
+            if (Files.isRegularFile(segment)) {
+                CaseLawIndex index = CaseLawIndex.open(map(segment));
+                log.info("Opened case-law index {} ({} cases)", segment, index.size());
+                return index;
+            }
+
+            List<CaseLawDocument> documents = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                parse(files.get(i), contents.get(i), documents);
+            }
+            byte[] built = CaseLawIndex.build(documents);
+            CaseLawIndex index;
+            try {
+                write(indexDir, segment, built);
+                index = CaseLawIndex.open(map(segment));
+            } catch (IOException e) {
+                log.warn("Could not write case-law index to {}; keeping it in memory: {}", indexDir, e.toString());
+                index = CaseLawIndex.open(ByteBuffer.wrap(built));
+            }
+            log.info("Indexed {} cases from {} corpus files", index.size(), files.size());
+            return index;
+        } catch (IOException | RuntimeException e) {
+            log.error("Case-law search disabled: could not load the corpus", e);
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void parse(Resource file, byte[] content, List<CaseLawDocument> documents) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(content), StandardCharsets.UTF_8))) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = mapper.readTree(line);
+                } catch (JsonProcessingException e) {
+                    log.warn("Skipping {} line {}: {}", file.getDescription(), number, e.getOriginalMessage());
+                    continue;
+                }
+                String caseName = text(node, "caseName");
+                if (caseName == null) {
+                    log.warn("Skipping {} line {}: no caseName", file.getDescription(), number);
+                    continue;
+                }
+                documents.add(new CaseLawDocument(caseName, text(node, "caseUrl"), text(node, "domain"),
+                        text(node, "keyTakeaway"), text(node, "practicalAdvice"), text(node, "summary")));
+            }
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    // Written under a temporary name and moved, so a segment file is always complete
+    private static void write(Path indexDir, Path segment, byte[] bytes) throws IOException {
+        Files.createDirectories(indexDir);
+        Path temp = Files.createTempFile(indexDir, SEGMENT_PREFIX, ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, segment, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        // Segments of older corpora
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(indexDir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path old : stale) {
+                if (!old.equals(segment)) {
+                    Files.deleteIfExists(old);
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
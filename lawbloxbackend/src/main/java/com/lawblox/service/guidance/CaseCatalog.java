@@ -0,0 +1,42 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.util.ChatJson;
+import com.lawblox.util.Utf8Fragment;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The landmark cases cited by the renderers. Each distinct citation is one
+ * immutable instance, created while the renderer fragments load, with its
+ * JSON encoded once; responses only ever reference these instances.
+ */
+final class CaseCatalog {
+
+    private static final Map<LegalCaseSuggestion, LegalCaseSuggestion> CITATIONS = new ConcurrentHashMap<>();
+    private static final Map<LegalCaseSuggestion, Utf8Fragment> JSON = new ConcurrentHashMap<>();
+
+    private CaseCatalog() {
+    }
+
+    static LegalCaseSuggestion cite(String caseName, String caseUrl,
+                                    String keyTakeaway, String domain,
+                                    String practicalAdvice) {
+        LegalCaseSuggestion citation = CITATIONS.computeIfAbsent(
+                new LegalCaseSuggestion(caseName, caseUrl, keyTakeaway, domain, practicalAdvice), c -> c);
+        JSON.computeIfAbsent(citation, c -> Utf8Fragment.raw(ChatJson.write(c)));
+        return citation;
+    }
+
+    /**
+     * The citation as a JSON object
+     */
+    static Utf8Fragment json(LegalCaseSuggestion citation) {
+        Utf8Fragment json = JSON.get(citation);
+        if (json == null) {
+            throw new IllegalArgumentException("Not a catalog citation: " + citation.getCaseName());
+        }
+        return json;
+    }
+}
@@ -0,0 +1,77 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for CONSTITUTIONAL_LAW queries
+ */
+final class ConstitutionalLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "🗽 **CONSTITUTIONAL LAW**\n";
+
+    private static final GuidanceFragment FUNDAMENTAL_RIGHTS = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Fundamental rights violation\n"
+            + "**Relevant Law**: Constitution of India - Part III (Articles 14-32)\n"
+            + "**Action Steps**:\n"
+            + "1. File Writ Petition under Article 226 (High Court) or Article 32 (Supreme Court)\n"
+            + "2. Types of writs: Habeas Corpus, Mandamus, Prohibition, Certiorari, Quo Warranto\n"
+            + "3. Locus standi: Any person can file PIL for public interest\n"
+            + "4. Approach: Constitutional lawyer or Human Rights Commission\n\n",
+        CaseCatalog.cite(
+            "Maneka Gandhi v. Union of India (1978)",
+            "https://indiankanoon.org/doc/1766147/",
+            "Article 21 includes right to live with dignity; procedure must be fair, just and reasonable",
+            "Constitutional Law",
+            "Draft writ petition clearly stating fundamental right violated; file in appropriate HC/SC"
+        ));
+
+    private static final GuidanceFragment PRIVACY = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Right to privacy\n"
+            + "**Relevant Law**: Article 21 (Right to Life includes Privacy)\n"
+            + "**Action Steps**:\n"
+            + "1. Privacy is fundamental right (K.S. Puttaswamy judgment)\n"
+            + "2. File complaint with Data Protection Authority (once operational)\n"
+            + "3. For government surveillance: File writ petition challenging legality\n"
+            + "4. For private violations: File criminal/civil complaint\n\n",
+        CaseCatalog.cite(
+            "K.S. Puttaswamy v. Union of India (2017)",
+            "https://indiankanoon.org/doc/91938676/",
+            "Privacy is intrinsic to Article 21; 9-judge bench declared privacy as fundamental right",
+            "Constitutional Law",
+            "Document privacy breach; file writ if state action involved; civil suit for private parties"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Constitutional Rights Guidance**:\n"
+            + "1. Fundamental Rights enforceable against State action (not private parties)\n"
+            + "2. Approach: National/State Human Rights Commission\n"
+            + "3. Free legal aid available through NALSA\n"
+            + "4. Contact: Constitutional lawyer or legal aid clinic\n\n",
+        CaseCatalog.cite(
+            "Vishaka v. State of Rajasthan (1997)",
+            "https://indiankanoon.org/doc/1031794/",
+            "Courts can fill legislative vacuum; guidelines enforceable till law enacted",
+            "Constitutional Law",
+            "File writ petition for judicial review; cite relevant fundamental right articles"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] FUNDAMENTAL_RIGHTS_KEYWORDS =
+            KeywordVocabulary.mask("fundamental rights", "article 21");
+    private static final long[] PRIVACY_KEYWORDS = KeywordVocabulary.mask("privacy");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(FUNDAMENTAL_RIGHTS_KEYWORDS)) {
+            return FUNDAMENTAL_RIGHTS;
+        } else if (keywords.intersects(PRIVACY_KEYWORDS)) {
+            return PRIVACY;
+        } else {
+            return GENERAL;
+        }
+    }
+}
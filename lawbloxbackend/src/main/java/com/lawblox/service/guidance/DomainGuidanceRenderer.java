@@ -0,0 +1,15 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+
+/**
+ * Picks the guidance for one legal domain from the detected keywords.
+ *
+ * The guidance itself is a set of constant GuidanceFragments, so rendering is
+ * a few bit tests against KeywordVocabulary masks and no text is assembled
+ * per request.
+ */
+interface DomainGuidanceRenderer {
+
+    GuidanceFragment render(KeywordSet keywords);
+}
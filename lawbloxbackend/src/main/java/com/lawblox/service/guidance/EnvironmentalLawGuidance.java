@@ -0,0 +1,101 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for ENVIRONMENTAL_LAW queries
+ */
+final class EnvironmentalLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "🌍 **ENVIRONMENTAL LAW**\n";
+
+    private static final GuidanceFragment POLLUTION = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Pollution (Air/Water/Noise)\n"
+            + "**Relevant Law**: Air Act 1981, Water Act 1974, Environment Protection Act 1986\n"
+            + "**Action Steps**:\n"
+            + "1. File complaint with State Pollution Control Board (SPCB)\n"
+            + "2. For immediate action: Approach District Magistrate or Sub-Divisional Magistrate\n"
+            + "3. File PIL in High Court or approach National Green Tribunal (NGT)\n"
+            + "4. Document pollution: photos, videos, air/water quality reports\n"
+            + "5. Contact: Central Pollution Control Board helpline or NGT\n\n",
+        CaseCatalog.cite(
+            "M.C. Mehta v. Union of India (1986) - Oleum Gas Leak",
+            "https://indiankanoon.org/doc/1486949/",
+            "Absolute liability for polluting industries; precautionary principle and polluter pays principle",
+            "Environmental Law",
+            "File complaint with SPCB; file NGT application for compensation and closure orders"
+        ));
+
+    private static final GuidanceFragment GREEN_TRIBUNAL = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: National Green Tribunal matters\n"
+            + "**Relevant Law**: National Green Tribunal Act, 2010\n"
+            + "**Action Steps**:\n"
+            + "1. NGT has jurisdiction over environmental matters under 7 Acts\n"
+            + "2. File application in NGT (Original Application or Appeal)\n"
+            + "3. No court fee required; can be filed by any person\n"
+            + "4. NGT benches: Delhi (Principal), Bhopal, Pune, Kolkata, Chennai\n"
+            + "5. Fast-track disposal: Cases decided within 6 months\n\n",
+        CaseCatalog.cite(
+            "Vellore Citizens Welfare Forum v. Union of India (1996)",
+            "https://indiankanoon.org/doc/1934103/",
+            "Precautionary principle and polluter pays principle are part of environmental law",
+            "Environmental Law",
+            "File detailed application in appropriate NGT bench with environmental impact evidence"
+        ));
+
+    private static final GuidanceFragment FOREST_RIGHTS = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Forest rights/Deforestation\n"
+            + "**Relevant Law**: Forest Conservation Act, 1980; Scheduled Tribes (Forest Rights) Act, 2006\n"
+            + "**Action Steps**:\n"
+            + "1. For illegal deforestation: File complaint with Forest Department\n"
+            + "2. For forest rights: Apply to Sub-Divisional Level Committee (SDLC)\n"
+            + "3. File PIL in High Court or NGT for forest violations\n"
+            + "4. Forest clearance mandatory for diversion of forest land\n"
+            + "5. Contact: District Forest Officer or State Forest Department\n\n",
+        CaseCatalog.cite(
+            "T.N. Godavarman v. Union of India (1997)",
+            "https://indiankanoon.org/doc/1913966/",
+            "Supreme Court's continuing mandamus on forest conservation; strict guidelines",
+            "Environmental Law",
+            "File complaint with forest authorities; approach NGT for violations"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Environmental Law Guidance**:\n"
+            + "1. Right to clean environment is part of Article 21 (Right to Life)\n"
+            + "2. Approach: NGT (environmental disputes) or High Court (PIL)\n"
+            + "3. Public participation allowed in environmental decision-making\n"
+            + "4. Contact: NGT helpline or Ministry of Environment\n\n",
+        CaseCatalog.cite(
+            "Indian Council for Enviro-Legal Action v. Union of India (1996)",
+            "https://indiankanoon.org/doc/1486949/",
+            "Polluter pays principle; industries must compensate for environmental damage",
+            "Environmental Law",
+            "File application in NGT; gather scientific evidence of environmental harm"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] POLLUTION_KEYWORDS =
+            KeywordVocabulary.mask("pollution", "air pollution", "water pollution");
+    private static final long[] GREEN_TRIBUNAL_KEYWORDS = KeywordVocabulary.mask("NGT", "green tribunal");
+    private static final long[] FOREST_RIGHTS_KEYWORDS =
+            KeywordVocabulary.mask("deforestation", "forest rights");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(POLLUTION_KEYWORDS)) {
+            return POLLUTION;
+        } else if (keywords.intersects(GREEN_TRIBUNAL_KEYWORDS)) {
+            return GREEN_TRIBUNAL;
+        } else if (keywords.intersects(FOREST_RIGHTS_KEYWORDS)) {
+            return FOREST_RIGHTS;
+        } else {
+            return GENERAL;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for FAMILY_LAW queries
+ */
+final class FamilyLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "👨‍👩‍👧 **FAMILY LAW**\n";
+
+    private static final GuidanceFragment DIVORCE = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Divorce proceedings\n"
+            + "**Relevant Law**: Hindu Marriage Act, 1955 / Special Marriage Act, 1954\n"
+            + "**Divorce Grounds**: Adultery, cruelty, desertion, conversion, mental disorder\n"
+            + "**Action Steps**:\n"
+            + "1. Mutual Consent Divorce: File joint petition under Section 13B (HMA)\n"
+            + "2. Contested Divorce: File petition under Section 13 with grounds\n"
+            + "3. Approach: Family Court (if available) or District Court\n"
+            + "4. Waiting period: 6 months for mutual consent divorce\n"
+            + "5. Contact: Family court mediation center for settlement\n\n",
+        CaseCatalog.cite(
+            "Naveen Kohli v. Neelu Kohli (2006)",
+            "https://indiankanoon.org/doc/1799542/",
+            "Irretrievable breakdown of marriage is a valid ground for divorce",
+            "Family Law",
+            "Consult family lawyer; gather evidence of cruelty/desertion; attempt mediation first"
+        ));
+
+    private static final GuidanceFragment CHILD_CUSTODY = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Child custody\n"
+            + "**Relevant Law**: Guardians and Wards Act, 1890; Hindu Minority & Guardianship Act\n"
+            + "**Custody Principles**: Best interest of child; preference to mother for children <5 years\n"
+            + "**Action Steps**:\n"
+            + "1. File custody petition in Family Court\n"
+            + "2. Court considers: child's age, wishes (if mature), parent's conduct\n"
+            + "3. Options: Sole custody, joint custody, visitation rights\n"
+            + "4. Approach: District/Family Court where child resides\n\n",
+        CaseCatalog.cite(
+            "Rosy Jacob v. Jacob A. Chakramakkal (1973)",
+            "https://indiankanoon.org/doc/1743148/",
+            "Welfare of child is paramount; tender years doctrine for young children",
+            "Family Law",
+            "File habeas corpus if child wrongfully retained; provide evidence of fitness as parent"
+        ));
+
+    private static final GuidanceFragment DOMESTIC_VIOLENCE = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Domestic violence\n"
+            + "**Relevant Law**: Protection of Women from Domestic Violence Act, 2005; IPC Section 498A\n"
+            + "**Action Steps**:\n"
+            + "1. File complaint at police station (FIR under Section 498A IPC)\n"
+            + "2. Approach: Protection Officer or Magistrate for protection order\n"
+            + "3. Reliefs available: Protection order, residence order, maintenance, custody\n"
+            + "4. Emergency shelter: Contact women's helpline 181 or local NGO\n"
+            + "5. Medical evidence: Get treated at government hospital (MLC report)\n\n",
+        CaseCatalog.cite(
+            "Smt. Sarita v. Smt. Umrao (2008)",
+            "https://indiankanoon.org/doc/1799438/",
+            "Domestic violence includes physical, emotional, economic abuse; shared household rights",
+            "Family Law",
+            "File application under DV Act for immediate protection; gather medical and witness evidence"
+        ));
+
+    private static final GuidanceFragment MAINTENANCE = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Alimony/Maintenance\n"
+            + "**Relevant Law**: CrPC Section 125; Hindu Marriage Act Section 24-25\n"
+            + "**Action Steps**:\n"
+            + "1. File maintenance petition in Family Court or Magistrate Court\n"
+            + "2. Interim maintenance: During pendency of divorce (Section 24 HMA)\n"
+            + "3. Permanent alimony: After divorce decree (Section 25 HMA)\n"
+            + "4. Amount depends on: Husband's income, wife's income/needs, standard of living\n\n",
+        CaseCatalog.cite(
+            "Rajnesh v. Neha (2020)",
+            "https://indiankanoon.org/doc/149683920/",
+            "Maintenance should be 25% of husband's net salary as general guideline",
+            "Family Law",
+            "Submit income affidavits; provide evidence of expenses and lifestyle"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Family Law Guidance**:\n"
+            + "1. Approach: Family Court (Jurisdiction: matrimonial and custody matters)\n"
+            + "2. Mediation is mandatory before trial in most family courts\n"
+            + "3. Free legal aid available for women earning < ₹1 lakh/year\n"
+            + "4. Contact: Family court counselor or District Legal Services Authority\n\n",
+        CaseCatalog.cite(
+            "Shayara Bano v. Union of India (2017)",
+            "https://indiankanoon.org/doc/115701246/",
+            "Triple Talaq declared unconstitutional; Muslim women have equal rights",
+            "Family Law",
+            "Consult family law advocate; explore mediation for amicable settlement"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] DIVORCE_KEYWORDS = KeywordVocabulary.mask("divorce");
+    private static final long[] CHILD_CUSTODY_KEYWORDS = KeywordVocabulary.mask("custody", "child");
+    private static final long[] DOMESTIC_VIOLENCE_KEYWORDS =
+            KeywordVocabulary.mask("domestic violence", "498A");
+    private static final long[] MAINTENANCE_KEYWORDS = KeywordVocabulary.mask("alimony", "maintenance");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(DIVORCE_KEYWORDS)) {
+            return DIVORCE;
+        } else if (keywords.intersects(CHILD_CUSTODY_KEYWORDS)) {
+            return CHILD_CUSTODY;
+        } else if (keywords.intersects(DOMESTIC_VIOLENCE_KEYWORDS)) {
+            return DOMESTIC_VIOLENCE;
+        } else if (keywords.intersects(MAINTENANCE_KEYWORDS)) {
+            return MAINTENANCE;
+        } else {
+            return GENERAL;
+        }
+    }
+}
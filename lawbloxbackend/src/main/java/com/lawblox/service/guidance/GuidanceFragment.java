@@ -0,0 +1,33 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.util.Utf8Fragment;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Precompiled guidance for one (domain, sub-issue): the markdown section,
+ * domain header included, and its case suggestions. Built once when the
+ * renderer class loads and shared by every response that selects it.
+ *
+ * Both are also kept as JSON-ready UTF-8 so /api/chat/message can write them
+ * without encoding anything per request.
+ */
+@Value
+public class GuidanceFragment {
+
+    String text;
+    List<LegalCaseSuggestion> suggestions;
+
+    // text escaped for a JSON string, without the quotes
+    Utf8Fragment jsonText;
+    // each suggestion as a JSON object, in the same order
+    List<Utf8Fragment> suggestionsJson;
+
+    static GuidanceFragment of(String text, LegalCaseSuggestion... suggestions) {
+        List<LegalCaseSuggestion> list = List.of(suggestions);
+        return new GuidanceFragment(text, list, Utf8Fragment.jsonString(text),
+                list.stream().map(CaseCatalog::json).toList());
+    }
+}
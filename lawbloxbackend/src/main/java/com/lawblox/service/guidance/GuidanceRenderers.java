@@ -0,0 +1,44 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.LegalDomain;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registry of per-domain guidance renderers
+ */
+public final class GuidanceRenderers {
+
+    private static final Map<LegalDomain, DomainGuidanceRenderer> RENDERERS = Collections.unmodifiableMap(
+        new EnumMap<>(Map.ofEntries(
+            Map.entry(LegalDomain.PROPERTY_LAW, new PropertyLawGuidance()),
+            Map.entry(LegalDomain.CRIMINAL_LAW, new CriminalLawGuidance()),
+            Map.entry(LegalDomain.FAMILY_LAW, new FamilyLawGuidance()),
+            Map.entry(LegalDomain.CONSTITUTIONAL_LAW, new ConstitutionalLawGuidance()),
+            Map.entry(LegalDomain.CONSUMER_LAW, new ConsumerLawGuidance()),
+            Map.entry(LegalDomain.LABOR_LAW, new LaborLawGuidance()),
+            Map.entry(LegalDomain.TORT_LAW, new TortLawGuidance()),
+            Map.entry(LegalDomain.INTELLECTUAL_PROPERTY, new IntellectualPropertyGuidance()),
+            Map.entry(LegalDomain.ENVIRONMENTAL_LAW, new EnvironmentalLawGuidance()),
+            Map.entry(LegalDomain.CYBER_LAW, new CyberLawGuidance()),
+            Map.entry(LegalDomain.TAX_LAW, new TaxLawGuidance())
+        )));
+
+    private GuidanceRenderers() {
+    }
+
+    /**
+     * The guidance for a detected domain, or null if the domain has none
+     */
+    public static GuidanceFragment render(LegalDomain domain, KeywordSet keywords) {
+        DomainGuidanceRenderer renderer = RENDERERS.get(domain);
+        return renderer == null ? null : renderer.render(keywords);
+    }
+
+    static Map<LegalDomain, DomainGuidanceRenderer> all() {
+        return RENDERERS;
+    }
+}
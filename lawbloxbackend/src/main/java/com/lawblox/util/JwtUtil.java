@@ -1,86 +1,122 @@
 package com.lawblox.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lawblox.diagnostics.JwtParseEvent;
+import com.lawblox.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
-    
-    @Value("${jwt.secret}")
-    private String secret;
-    
-    @Value("${jwt.expiration}")
-    private Long expiration;
-    
-    /**
-     * Generate signing key from secret
-     */
-    private SecretKey getSigningKey() {
+
+    // Identity claims, so authenticated requests don't need a user lookup
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String FIRST_NAME_CLAIM = "name";
+
+    private final Long expiration;
+
+    // Built once; both are immutable and thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // SHA-256 of a token -> its verified claims, dropped when the token expires
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration,
+                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        this.expiration = expiration;
         // Ensure the key is at least 256 bits (32 bytes)
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(Expiry.creating((ByteBuffer key, Claims claims) ->
+                                Duration.ofNanos(Math.max(0, remainingLifetime(claims)))))
+                        .build()
+                : null;
     }
-    
+
     /**
      * Generate JWT token for a user
      */
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         return Jwts.builder()
-                .subject(email)
+                .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(FIRST_NAME_CLAIM, user.getFirstName())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
-    
-    /**
-     * Extract email from JWT token
-     */
-    public String extractEmail(String token) {
-        return getClaims(token).getSubject();
-    }
-    
+
     /**
-     * Validate JWT token
+     * Verify signature and expiry once and return the token's claims.
+     * Recently verified tokens are served from the cache until they expire.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
      */
-    public boolean validateToken(String token) {
+    public Claims parseClaims(String token) {
+        JwtParseEvent event = new JwtParseEvent();
+        event.begin();
         try {
-            getClaims(token);
-            return !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            Claims claims = verify(token, event);
+            event.valid = true;
+            return claims;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
         }
     }
-    
-    /**
-     * Check if token is expired
-     */
-    private boolean isTokenExpired(String token) {
-        return getClaims(token).getExpiration().before(new Date());
+
+    private Claims verify(String token, JwtParseEvent event) {
+        if (verifiedTokens == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+        ByteBuffer key = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(key);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(key, claims);
+        } else {
+            event.cached = true;
+        }
+        return claims;
     }
-    
-    /**
-     * Extract all claims from token
-     */
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+
+    private static long remainingLifetime(Claims claims) {
+        Date expiresAt = claims.getExpiration();
+        return expiresAt == null
+                ? 0
+                : TimeUnit.MILLISECONDS.toNanos(expiresAt.getTime() - System.currentTimeMillis());
     }
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-    final String email = extractEmail(token);
-    return email.equals(userDetails.getUsername()) && !isTokenExpired(token);
-}
 
-}
\ No newline at end of file
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
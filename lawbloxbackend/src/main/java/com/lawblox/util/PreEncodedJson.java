@@ -0,0 +1,82 @@
+package com.lawblox.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A JSON response body made of UTF-8 fragments, most of them shared
+ * constants. Written straight to the response stream by
+ * PreEncodedJsonHttpMessageConverter, with no String or Jackson in between.
+ */
+public final class PreEncodedJson {
+
+    private final Utf8Fragment[] fragments;
+    private final int length;
+
+    private PreEncodedJson(List<Utf8Fragment> fragments) {
+        this.fragments = fragments.toArray(new Utf8Fragment[0]);
+        int total = 0;
+        for (Utf8Fragment fragment : this.fragments) {
+            total += fragment.length();
+        }
+        this.length = total;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int contentLength() {
+        return length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        for (Utf8Fragment fragment : fragments) {
+            fragment.writeTo(out);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder json = new StringBuilder(length);
+        for (Utf8Fragment fragment : fragments) {
+            json.append(fragment);
+        }
+        return json.toString();
+    }
+
+    public static final class Builder {
+
+        private final List<Utf8Fragment> fragments = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(Utf8Fragment fragment) {
+            fragments.add(fragment);
+            return this;
+        }
+
+        /**
+         * All fragments of another body, e.g. a cached prefix
+         */
+        public Builder add(PreEncodedJson json) {
+            fragments.addAll(Arrays.asList(json.fragments));
+            return this;
+        }
+
+        /**
+         * Request-specific text, escaped as the content of a JSON string
+         */
+        public Builder addJsonString(String text) {
+            return add(Utf8Fragment.jsonString(text));
+        }
+
+        public PreEncodedJson build() {
+            return new PreEncodedJson(fragments);
+        }
+    }
+}
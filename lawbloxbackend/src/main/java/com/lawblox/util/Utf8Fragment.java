@@ -0,0 +1,77 @@
+package com.lawblox.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable UTF-8 bytes, encoded once and written as-is. The array is never
+ * handed out, so one instance can back any number of responses.
+ */
+public final class Utf8Fragment {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final byte[] bytes;
+
+    private Utf8Fragment(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Text written verbatim, e.g. JSON punctuation
+     */
+    public static Utf8Fragment raw(String text) {
+        return new Utf8Fragment(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Text escaped for use inside a JSON string literal (quotes not included)
+     */
+    public static Utf8Fragment jsonString(String text) {
+        return raw(escapeJson(text));
+    }
+
+    public int length() {
+        return bytes.length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * JSON string escaping as Jackson does it: quotes, backslashes and control
+     * characters; everything else, emoji included, is left as UTF-8
+     */
+    public static String escapeJson(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                case '\b' -> "\\b";
+                case '\f' -> "\\f";
+                default -> c < 0x20 ? "\\u00" + HEX[c >> 4] + HEX[c & 0xF] : null;
+            };
+            if (replacement != null) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+                }
+                escaped.append(replacement);
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped == null ? text : escaped.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.lawblox.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final AtomicInteger open = new AtomicInteger();
+
+    // Hands out stub connections and counts the ones not yet closed
+    private final AbstractDataSource pool = new AbstractDataSource() {
+        @Override
+        public Connection getConnection() {
+            open.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            open.decrementAndGet();
+                        }
+                        return method.getName().equals("isClosed") ? Boolean.FALSE : null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    };
+
+    private final ConnectionLimitingDataSource dataSource =
+            new ConnectionLimitingDataSource(pool, 2, Duration.ofMillis(50));
+
+    @Test
+    void waitsForAPermitAndTimesOut() throws SQLException {
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(open).hasValue(2);
+
+        first.close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void closingTwiceReleasesOnePermit() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void closingClosesThePool() throws Exception {
+        HikariDataSource hikari = new HikariDataSource();
+        new ConnectionLimitingDataSource(hikari, 2, Duration.ofMillis(50)).close();
+
+        assertThat(hikari.isClosed()).isTrue();
+    }
+
+    @Test
+    void closingTheContextClosesThePool() {
+        HikariDataSource hikari = new HikariDataSource();
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(BeanPostProcessor.class, DataSourceConfig::connectionLimitingDataSourcePostProcessor);
+        context.registerBean("dataSource", DataSource.class, () -> hikari);
+        context.refresh();
+        assertThat(context.getBean(DataSource.class)).isInstanceOf(ConnectionLimitingDataSource.class);
+
+        context.close();
+
+        assertThat(hikari.isClosed()).isTrue();
+    }
+}
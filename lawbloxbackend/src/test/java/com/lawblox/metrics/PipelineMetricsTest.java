@@ -0,0 +1,49 @@
+package com.lawblox.metrics;
+
+import com.lawblox.metrics.PipelineMetrics.Outcome;
+import com.lawblox.metrics.PipelineMetrics.Stage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PipelineMetrics metrics = new PipelineMetrics(registry);
+
+    @Test
+    void stagesChainFromTheReturnedMark() {
+        long started = System.nanoTime();
+        long mark = metrics.record(Stage.DETECT, started);
+        metrics.record(Stage.RENDER, mark);
+
+        assertThat(mark).isGreaterThanOrEqualTo(started);
+        assertThat(stage("detect").count()).isEqualTo(1);
+        assertThat(stage("render").count()).isEqualTo(1);
+        assertThat(stage("persist").count()).isZero();
+    }
+
+    @Test
+    void requestsAreTaggedByOutcomeAndBucketedDomainCount() {
+        metrics.recordRequest(Outcome.HELP, 0, System.nanoTime());
+        metrics.recordRequest(Outcome.ANALYSIS, 2, System.nanoTime());
+        metrics.recordRequest(Outcome.ANALYSIS, 5, System.nanoTime());
+
+        assertThat(request("help", "0").count()).isEqualTo(1);
+        assertThat(request("analysis", "2").count()).isEqualTo(1);
+        assertThat(request("analysis", "3+").count()).isEqualTo(1);
+        // Only combinations that can happen are registered
+        assertThat(registry.find("lawblox.chat.request").tag("outcome", "greeting").timers()).hasSize(1);
+        assertThat(registry.find("lawblox.chat.request").timers()).hasSize(5);
+    }
+
+    private Timer stage(String stage) {
+        return registry.get("lawblox.chat.stage").tag("stage", stage).timer();
+    }
+
+    private Timer request(String outcome, String domains) {
+        return registry.get("lawblox.chat.request").tag("outcome", outcome).tag("domains", domains).timer();
+    }
+}
@@ -0,0 +1,88 @@
+package com.lawblox.metrics;
+
+import com.lawblox.metrics.PipelineMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private static final String SECRET = "s3cret";
+    private static final byte[] BODY = "{\"response\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final PipelineMetrics metrics = new PipelineMetrics(new SimpleMeterRegistry());
+
+    // Records two stages, then writes the body the way the pre-encoded converter does
+    private final FilterChain chain = (request, response) -> {
+        long mark = metrics.record(Stage.AUTH, System.nanoTime());
+        metrics.record(Stage.DETECT, mark);
+        response.setContentLength(BODY.length);
+        ServletOutputStream out = response.getOutputStream();
+        long started = System.nanoTime();
+        out.write(BODY);
+        metrics.record(Stage.SERIALIZE, started);
+        out.flush();
+    };
+
+    @Test
+    void optInRequestGetsStagesInTheHeader() throws Exception {
+        MockHttpServletResponse response = filter(new ServerTimingFilter(SECRET, 0), "/api/chat/message", SECRET);
+
+        assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER))
+                .matches("auth;dur=\\d+\\.\\d{3}, detect;dur=\\d+\\.\\d{3}, serialize;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}");
+        assertThat(response.getContentAsByteArray()).isEqualTo(BODY);
+    }
+
+    @Test
+    void otherRequestsAreNotTimed() throws Exception {
+        MockHttpServletResponse response = filter(new ServerTimingFilter(SECRET, 0), "/api/chat/message", null);
+
+        assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(BODY);
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    void sampleRateTimesRequestsWithoutTheHeader() throws Exception {
+        MockHttpServletResponse response = filter(new ServerTimingFilter("", 1.0), "/api/chat/message", null);
+
+        assertThat(response.getHeader(ServerTimingFilter.RESPONSE_HEADER)).startsWith("auth;dur=");
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    void optInNeedsTheConfiguredSecret() throws Exception {
+        assertThat(filter(new ServerTimingFilter(SECRET, 0), "/api/chat/message", "1")
+                .getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+        assertThat(filter(new ServerTimingFilter("", 0), "/api/chat/message", "1")
+                .getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+    }
+
+    // Which stages a login records would tell whether the account exists
+    @Test
+    void unauthenticatedLoginGetsNoHeader() throws Exception {
+        MockHttpServletResponse optedIn = filter(new ServerTimingFilter(SECRET, 0), "/api/auth/login", SECRET);
+        MockHttpServletResponse sampled = filter(new ServerTimingFilter("", 1.0), "/api/auth/login", null);
+
+        assertThat(optedIn.getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+        assertThat(sampled.getHeader(ServerTimingFilter.RESPONSE_HEADER)).isNull();
+        assertThat(optedIn.getContentAsByteArray()).isEqualTo(BODY);
+    }
+
+    private MockHttpServletResponse filter(ServerTimingFilter filter, String path, String optIn) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        if (optIn != null) {
+            request.addHeader(ServerTimingFilter.REQUEST_HEADER, optIn);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+package com.lawblox.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordSetTest {
+
+    @Test
+    void encodedFormDecodesToSortedNames() {
+        KeywordSet keywords = KeywordSet.of(
+                List.of("tenant", "FIR", "eviction", "stored; only", "back\\slash", "zoning"));
+
+        String encoded = keywords.encode();
+
+        assertThat(encoded).startsWith("v1:").contains(";stored").doesNotContain("tenant");
+        assertThat(KeywordSet.decode(encoded)).isEqualTo("FIR, back\\slash, eviction, stored; only, tenant, zoning");
+        assertThat(keywords.names())
+                .containsExactly("FIR", "back\\slash", "eviction", "stored; only", "tenant", "zoning");
+    }
+
+    @Test
+    void legacyValuesPassThrough() {
+        assertThat(KeywordSet.decode("eviction, landlord")).isEqualTo("eviction, landlord");
+        assertThat(KeywordSet.decode("GREETING")).isEqualTo("GREETING");
+        assertThat(KeywordSet.decode(null)).isNull();
+        assertThat(KeywordSet.of(List.of()).encode()).isEmpty();
+    }
+
+    @Test
+    void rendererMasksTestVocabularyBits() {
+        long[] bail = KeywordVocabulary.mask("bail", "anticipatory bail");
+
+        assertThat(KeywordSet.of(List.of("anticipatory bail")).intersects(bail)).isTrue();
+        assertThat(KeywordSet.of(List.of("arrest", "not in vocabulary")).intersects(bail)).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package com.lawblox.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingTest {
+
+    private static final String PASSWORD = "Str0ng!Passw0rd";
+
+    @Test
+    void storesAlgorithmAndCostWithTheHash() {
+        PasswordEncoder encoder = PasswordHashing.encoder(5);
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void matchesAndUpgradesUnprefixedHashes() {
+        String legacy = new BCryptPasswordEncoder(5).encode(PASSWORD);
+        PasswordEncoder encoder = PasswordHashing.encoder(5);
+
+        assertThat(encoder.matches(PASSWORD, legacy)).isTrue();
+        assertThat(encoder.matches("wrong", legacy)).isFalse();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    void upgradesWeakerButNotStrongerHashes() {
+        String weaker = PasswordHashing.encoder(4).encode(PASSWORD);
+        String stronger = PasswordHashing.encoder(6).encode(PASSWORD);
+        PasswordEncoder encoder = PasswordHashing.encoder(5);
+
+        assertThat(encoder.matches(PASSWORD, weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.matches(PASSWORD, stronger)).isTrue();
+        assertThat(encoder.upgradeEncoding(stronger)).isFalse();
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertThat(PasswordHashing.calibrate(Duration.ZERO, 4, 6)).isEqualTo(4);
+        assertThat(PasswordHashing.calibrate(Duration.ofMinutes(1), 4, 6)).isEqualTo(6);
+    }
+}
@@ -0,0 +1,34 @@
+package com.lawblox.service;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.LegalDomain;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatDomainBackfillTest {
+
+    private final KeywordMatcher matcher = new KeywordCatalog(null).matcher();
+
+    @Test
+    void mapsStoredKeywordsToDomains() {
+        int propertyAndCriminal = LegalDomain.PROPERTY_LAW.bit() | LegalDomain.CRIMINAL_LAW.bit();
+
+        assertThat(ChatDomainBackfill.domainMask("eviction, FIR", matcher)).isEqualTo(propertyAndCriminal);
+        assertThat(ChatDomainBackfill.domainMask(KeywordSet.of(List.of("eviction", "FIR")).encode(), matcher))
+                .isEqualTo(propertyAndCriminal);
+        // Shared keywords count for every domain that lists them
+        assertThat(ChatDomainBackfill.domainMask("defamation", matcher))
+                .isEqualTo(LegalDomain.CRIMINAL_LAW.bit() | LegalDomain.TORT_LAW.bit());
+    }
+
+    @Test
+    void greetingsAndUnknownKeywordsHaveNoDomain() {
+        assertThat(ChatDomainBackfill.domainMask("GREETING", matcher)).isZero();
+        assertThat(ChatDomainBackfill.domainMask("", matcher)).isZero();
+        assertThat(ChatDomainBackfill.domainMask(null, matcher)).isZero();
+        assertThat(ChatDomainBackfill.domainMask("no longer in the catalog", matcher)).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.lawblox.service;
+
+import com.lawblox.model.ChatMessage;
+import com.lawblox.model.User;
+import com.lawblox.repository.ChatMessageRepository;
+import com.lawblox.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatHistoryWriterTest {
+
+    private final ChatMessageRepository chatMessages = mock(ChatMessageRepository.class);
+    private final UserRepository users = mock(UserRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<String> saved = new CopyOnWriteArrayList<>();
+
+    private final ChatHistoryWriter writer = new ChatHistoryWriter(chatMessages, users,
+            TransactionOperations.withoutTransaction(), registry, 100, 50, Duration.ofMillis(50), Duration.ofSeconds(5));
+
+    ChatHistoryWriterTest() {
+        when(users.getReferenceById(anyLong())).thenAnswer(call -> User.builder().id(call.getArgument(0)).build());
+    }
+
+    @Test
+    void retriesATransientFailureOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        when(chatMessages.saveAll(anyList())).thenAnswer(call -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new TransientDataAccessResourceException("Connection is not available");
+            }
+            return save(call.getArgument(0));
+        });
+
+        writeAndDrain("first", "second", "third");
+
+        assertThat(saved).containsExactlyInAnyOrder("first", "second", "third");
+        assertThat(registry.get("lawblox.chat.history.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void dropsOnlyTheRowsThatFailOnTheirOwn() {
+        when(chatMessages.saveAll(anyList())).thenAnswer(call -> {
+            List<ChatMessage> entities = call.getArgument(0);
+            if (entities.stream().anyMatch(message -> message.getUserMessage().equals("bad"))) {
+                throw new DataIntegrityViolationException("Cannot add or update a child row");
+            }
+            return save(entities);
+        });
+
+        writeAndDrain("first", "bad", "third");
+
+        assertThat(saved).containsExactlyInAnyOrder("first", "third");
+        assertThat(registry.get("lawblox.chat.history.failed").counter().count()).isEqualTo(1);
+    }
+
+    private void writeAndDrain(String... messages) {
+        writer.start();
+        for (String message : messages) {
+            writer.write(1L, message, "answer", "", 0);
+        }
+        writer.stop();
+    }
+
+    private List<ChatMessage> save(List<ChatMessage> entities) {
+        entities.forEach(message -> saved.add(message.getUserMessage()));
+        return entities;
+    }
+}
@@ -0,0 +1,82 @@
+package com.lawblox.service;
+
+import com.lawblox.dto.ChatResponse;
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.model.LegalDomain;
+import com.lawblox.util.ChatJson;
+import com.lawblox.util.PreEncodedJson;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatResponseJsonTest {
+
+    private static final List<LegalDomain> DOMAINS = List.of(LegalDomain.values());
+
+    // renderGuidance only uses the precompiled fragments
+    private final LegalChatService service = new LegalChatService(null, null, null, null, null, null);
+
+    @Test
+    void guidanceMatchesTypedSerialization() throws IOException {
+        List<Set<String>> keywordSets = List.of(
+                Set.of(), Set.of("eviction", "lease"), Set.of("FIR", "bail"), Set.of("divorce"),
+                Set.of("privacy"), Set.of("refund"), Set.of("salary", "PF"), Set.of("negligence"),
+                Set.of("\"quoted\" \\ keyword"));
+        for (int i = 0; i < DOMAINS.size(); i++) {
+            for (int j = i; j < DOMAINS.size(); j++) {
+                Set<LegalDomain> domains = EnumSet.of(DOMAINS.get(i), DOMAINS.get(j));
+                for (Set<String> keywords : keywordSets) {
+                    RenderedGuidance guidance = service.renderGuidance(domains, KeywordSet.of(keywords));
+                    ChatResponse typed = new ChatResponse(guidance.getText(),
+                            domains.stream().map(LegalDomain::name).toList(), guidance.getSuggestions());
+                    assertThat(bytes(guidance.getJson()))
+                            .as("%s %s", domains, keywords)
+                            .isEqualTo(ChatJson.writeBytes(typed));
+                }
+            }
+        }
+    }
+
+    @Test
+    void caseCitedByTwoDomainsIsSuggestedOnce() throws IOException {
+        // Vishaka is cited for workplace sexual harassment and in general constitutional guidance
+        RenderedGuidance guidance = service.renderGuidance(
+                EnumSet.of(LegalDomain.LABOR_LAW, LegalDomain.CONSTITUTIONAL_LAW),
+                KeywordSet.of(List.of("sexual harassment")));
+
+        assertThat(guidance.getSuggestions())
+                .extracting(LegalCaseSuggestion::getCaseName)
+                .containsExactly("Vishaka v. State of Rajasthan (1997)");
+        assertThat(guidance.getSections())
+                .filteredOn(section -> "LABOR_LAW".equals(section.getDomain()))
+                .singleElement()
+                .satisfies(section -> assertThat(section.getSuggestedCases()).isEmpty());
+        assertThat(new String(bytes(guidance.getJson()), StandardCharsets.UTF_8))
+                .containsOnlyOnce("Vishaka");
+    }
+
+    @Test
+    void greetingAndHelpMatchTypedSerialization() throws IOException {
+        for (String name : Arrays.asList("Asha", "\"Q\" \\ \t é 😀", "", null)) {
+            ChatResponse typed = new ChatResponse(ResponseTemplates.GOOD_EVENING + name + ResponseTemplates.GREETING_BODY,
+                    List.of(), List.of());
+            assertThat(bytes(ChatResponseJson.greeting(ResponseTemplates.GOOD_EVENING, name)))
+                    .isEqualTo(ChatJson.writeBytes(typed));
+        }
+        assertThat(bytes(ChatResponseJson.HELP))
+                .isEqualTo(ChatJson.writeBytes(new ChatResponse(ResponseTemplates.HELP, List.of(), List.of())));
+    }
+
+    private static byte[] bytes(PreEncodedJson json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.contentLength());
+        json.writeTo(out);
+        assertThat(out.size()).isEqualTo(json.contentLength());
+        return out.toByteArray();
+    }
+}
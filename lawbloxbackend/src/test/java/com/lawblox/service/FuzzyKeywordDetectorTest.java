@@ -0,0 +1,53 @@
+package com.lawblox.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyKeywordDetectorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FuzzyKeywordDetector detector = new FuzzyKeywordDetector(registry, true, Duration.ofMillis(50));
+    private final KeywordMatcher matcher = new KeywordCatalog(null).matcher();
+
+    @Test
+    void correctsMisspelledKeywords() {
+        assertThat(detect("landlord gave evicton notice")).contains("eviction");
+        assertThat(detect("how to file devorce")).contains("divorce");
+        assertThat(detect("who gets custdy of my son")).contains("custody");
+        assertThat(registry.counter("lawblox.keywords.fuzzy.rescued").count()).isEqualTo(2);
+    }
+
+    @Test
+    void leavesRealWordsAlone() {
+        assertThat(detect("please tell me about the app")).isEmpty();
+        assertThat(detect("my insurance policy lapsed")).doesNotContain("police");
+        assertThat(detect("i am lacking sleep after my mission")).isEmpty();
+        assertThat(detect("the officer was polite")).isEmpty();
+        assertThat(detect("the insurer changed its policies")).isEmpty();
+        assertThat(detect("the landlord says the flat is compliant")).containsExactly("landlord");
+        assertThat(detect("i want to complain")).isEmpty();
+        assertThat(registry.counter("lawblox.keywords.fuzzy.matches").count()).isZero();
+    }
+
+    @Test
+    void stopsAtTheBudget() {
+        FuzzyKeywordDetector exhausted = new FuzzyKeywordDetector(registry, true, Duration.ZERO);
+        Detection detection = matcher.match("how to file devorce");
+        exhausted.detect(matcher, "how to file devorce", detection);
+
+        assertThat(detection.keywords().isEmpty()).isTrue();
+        assertThat(registry.counter("lawblox.keywords.fuzzy.budget.exhausted").count()).isEqualTo(1);
+    }
+
+    private List<String> detect(String message) {
+        String normalized = MessageNormalizer.normalize(message);
+        Detection detection = matcher.match(normalized);
+        detector.detect(matcher, normalized, detection);
+        return detection.keywords().names();
+    }
+}
@@ -0,0 +1,113 @@
+package com.lawblox.service;
+
+import com.lawblox.model.LegalDomain;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordMatcherTest {
+
+    private final KeywordMatcher builtIn = new KeywordCatalog(null).matcher();
+
+    @Test
+    void overlappingKeywordsAllMatch() {
+        KeywordMatcher matcher = compile(Map.of(
+                LegalDomain.FAMILY_LAW, List.of("domestic violence"),
+                LegalDomain.CRIMINAL_LAW, List.of("violence", "domestic")));
+
+        Detection detection = match(matcher, "Facing domestic violence at home");
+
+        assertThat(detection.keywords().names()).containsExactlyInAnyOrder("domestic violence", "violence", "domestic");
+        assertThat(detection.domains()).containsExactlyInAnyOrder(LegalDomain.FAMILY_LAW, LegalDomain.CRIMINAL_LAW);
+        assertThat(match(matcher, "violence").keywords().names()).containsExactly("violence");
+    }
+
+    @Test
+    void multiWordKeywordsNeedEveryWord() {
+        assertThat(names("I want to apply for anticipatory bail")).containsExactlyInAnyOrder("anticipatory bail", "bail");
+        assertThat(names("my hindu marriage act petition")).contains("hindu marriage act", "marriage");
+        assertThat(names("the hindu act on marriage")).doesNotContain("hindu marriage act");
+    }
+
+    @Test
+    void keywordInSeveralDomainsAddsEachDomain() {
+        Detection detection = match(builtIn, "I filed a complaint");
+
+        assertThat(detection.keywords().names()).containsExactly("complaint");
+        assertThat(detection.domains()).containsExactlyInAnyOrder(LegalDomain.CRIMINAL_LAW, LegalDomain.CONSUMER_LAW);
+        assertThat(builtIn.domainMask("complaint"))
+                .isEqualTo(LegalDomain.CRIMINAL_LAW.bit() | LegalDomain.CONSUMER_LAW.bit());
+    }
+
+    @Test
+    void matchesAroundAndWithinNonAsciiText() {
+        assertThat(names("पुलिस ने मेरी FIR दर्ज नहीं की")).containsExactly("FIR");
+        assertThat(names("ＦＩＲ not registered")).containsExactly("FIR");
+
+        KeywordMatcher matcher = compile(Map.of(LegalDomain.FAMILY_LAW, List.of("दहेज", "pensión")));
+        assertThat(match(matcher, "ससुराल वाले दहेज मांग रहे हैं").keywords().names()).containsExactly("दहेज");
+        assertThat(match(matcher, "Mi PENSIÓN no llega").keywords().names()).containsExactly("pensión");
+    }
+
+    @Test
+    void onlyWholeWordsMatch() {
+        assertThat(names("my landlord wants more")).containsExactly("landlord");
+        assertThat(names("two lands and a house")).containsExactlyInAnyOrder("land", "house");
+    }
+
+    // Messages whose keywords all appear as whole words, where the old substring scan is right
+    @Test
+    void agreesWithTheBaselineSubstringScan() {
+        List<String> messages = List.of(
+                "Police refused to register my FIR for theft",
+                "How do I file for divorce and get custody of my child?",
+                "My employer has not paid my salary for three months",
+                "I got an income tax notice for unreported interest",
+                "Someone is doing phishing and identity theft with my account",
+                "Hospital negligence caused a serious injury to my father",
+                "Copyright infringement of my logo by a competitor",
+                "Noise pollution from a factory near the school",
+                "Can I get a refund for a defective product from the seller?",
+                "What does article 21 say about right to life and privacy?",
+                "hello there",
+                "what can you do");
+
+        for (String message : messages) {
+            Detection detection = match(builtIn, message);
+            Map<String, Integer> expected = substringScan(message);
+            assertThat(new HashSet<>(detection.keywords().names())).as(message).isEqualTo(expected.keySet());
+            assertThat(detection.domainMask()).as(message)
+                    .isEqualTo(expected.values().stream().reduce(0, (a, b) -> a | b));
+        }
+    }
+
+    // The detection loop this matcher replaced
+    private static Map<String, Integer> substringScan(String message) {
+        String lower = message.toLowerCase().trim();
+        Map<String, Integer> found = new HashMap<>();
+        KeywordCatalog.BUILT_IN_KEYWORDS.forEach((domain, keywords) -> {
+            for (String keyword : keywords) {
+                if (lower.contains(keyword.toLowerCase())) {
+                    found.merge(keyword, domain.bit(), (a, b) -> a | b);
+                }
+            }
+        });
+        return found;
+    }
+
+    private List<String> names(String message) {
+        return match(builtIn, message).keywords().names();
+    }
+
+    private static Detection match(KeywordMatcher matcher, String message) {
+        return matcher.match(MessageNormalizer.normalize(message));
+    }
+
+    private static KeywordMatcher compile(Map<LegalDomain, List<String>> keywords) {
+        Map<String, Integer> ids = new HashMap<>();
+        return KeywordMatcher.compile(keywords, keyword -> ids.computeIfAbsent(keyword, k -> ids.size()),
+                KeywordCatalog.ENGLISH_WORDS);
+    }
+}
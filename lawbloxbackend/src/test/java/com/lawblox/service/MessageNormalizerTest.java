@@ -0,0 +1,67 @@
+package com.lawblox.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageNormalizerTest {
+
+    private final KeywordMatcher matcher = new KeywordCatalog(null).matcher();
+
+    @Test
+    void foldsCaseWidthAndPunctuation() {
+        assertThat(MessageNormalizer.normalize("  Police   REFUSED my ＦＩＲ!!  ")).isEqualTo("police refused my fir");
+        assertThat(MessageNormalizer.normalize("What now? 🙏 Help...")).isEqualTo("what now help");
+        assertThat(MessageNormalizer.normalize("")).isEmpty();
+    }
+
+    @Test
+    void joinsApostrophesInitialismsAndSectionLetters() {
+        assertThat(MessageNormalizer.normalize("Daughter's share, don’t know")).isEqualTo("daughters share dont know");
+        assertThat(MessageNormalizer.normalize("booked under I.P.C. and U.S.A law")).isEqualTo("booked under ipc and usa law");
+        assertThat(MessageNormalizer.normalize("case under section 498-A filed")).isEqualTo("case under section 498a filed");
+    }
+
+    @Test
+    void otherDotsAndHyphensSeparateWords() {
+        assertThat(MessageNormalizer.normalize("got a tax notice.what now")).isEqualTo("got a tax notice what now");
+        assertThat(MessageNormalizer.normalize("phone stolen.Police did nothing")).isEqualTo("phone stolen police did nothing");
+        assertThat(MessageNormalizer.normalize("anti-dowry law")).isEqualTo("anti dowry law");
+        assertThat(MessageNormalizer.normalize("a.bc and ab.c")).isEqualTo("a bc and ab c");
+        assertThat(MessageNormalizer.normalize("covid-19 lockdown")).isEqualTo("covid 19 lockdown");
+    }
+
+    @Test
+    void keywordsSurviveMissingSpacesAndCompounds() {
+        assertThat(keywords("got a tax notice.what now")).contains("tax notice");
+        assertThat(keywords("My phone was stolen.Police did nothing")).contains("police");
+        assertThat(keywords("Is there an anti-dowry law?")).contains("dowry");
+        assertThat(keywords("Victim of cyber-crime")).contains("cyber crime", "crime");
+        assertThat(keywords("Case under section 498-A")).contains("section 498A");
+        assertThat(keywords("Booked under the I.P.C.")).contains("IPC");
+        assertThat(keywords("Stuck on an e-commerce dispute")).contains("e-commerce dispute");
+    }
+
+    @Test
+    void greetingsAreWholeTokens() {
+        assertThat(greeting("Hi!")).isTrue();
+        assertThat(greeting("hello there")).isTrue();
+        assertThat(greeting("Good morning")).isTrue();
+        assertThat(greeting("yo")).isTrue();
+
+        assertThat(greeting("this is about my case")).isFalse();
+        assertThat(greeting("your service was bad")).isFalse();
+        assertThat(greeting("supreme court ruling")).isFalse();
+        assertThat(greeting("morning walk was good")).isFalse();
+    }
+
+    private List<String> keywords(String message) {
+        return matcher.match(MessageNormalizer.normalize(message)).keywords().names();
+    }
+
+    private static boolean greeting(String message) {
+        return LegalChatService.isGreeting(MessageNormalizer.normalize(message));
+    }
+}
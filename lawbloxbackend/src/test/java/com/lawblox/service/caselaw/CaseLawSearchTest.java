@@ -0,0 +1,89 @@
+package com.lawblox.service.caselaw;
+
+import com.lawblox.model.LegalCaseSuggestion;
+import com.lawblox.service.MessageNormalizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseLawSearchTest {
+
+    private static final String CORPUS = """
+            {"caseName":"Arnesh Kumar v. State of Bihar (2014)","domain":"Criminal Law","summary":"No automatic arrest in dowry cruelty complaints under 498A"}
+            {"caseName":"Naveen Kohli v. Neelu Kohli (2006)","caseUrl":"https://example.org/1","summary":"Divorce on irretrievable breakdown of marriage"}
+            not json
+            {"caseName":"Vineeta Sharma v. Rakesh Sharma (2020)","summary":"Daughters have equal coparcenary rights in ancestral property"}
+            {"summary":"no case name"}
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void ranksRelevantCasesAndSkipsAlreadySuggested() throws IOException {
+        CaseLawSearch search = search(dir.resolve("index"));
+
+        assertThat(names(search.search(normalize("Daughter's share in ancestral property"), List.of())))
+                .containsExactly("Vineeta Sharma v. Rakesh Sharma (2020)");
+        assertThat(search.search(normalize("what is the weather like"), List.of()).isEmpty()).isTrue();
+
+        LegalCaseSuggestion arnesh = new LegalCaseSuggestion("Arnesh Kumar v. State of Bihar (2014)", null, null, null, null);
+        assertThat(search.search(normalize("will police arrest me for dowry under 498A"), List.of(arnesh)).isEmpty())
+                .isTrue();
+    }
+
+    @Test
+    void segmentIsWrittenOnceAndReopened() throws IOException {
+        Path index = dir.resolve("index");
+        search(index);
+        Path segment;
+        try (var files = Files.list(index)) {
+            segment = files.filter(f -> f.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        Files.setLastModifiedTime(segment, FileTime.fromMillis(0));
+
+        CaseLawSearch reopened = search(index);
+
+        assertThat(Files.getLastModifiedTime(segment).toMillis()).isZero();
+        LegalCaseSuggestion hit = reopened.search(normalize("divorce irretrievable breakdown"), List.of()).getCases().get(0);
+        assertThat(hit).isEqualTo(new LegalCaseSuggestion(
+                "Naveen Kohli v. Neelu Kohli (2006)", "https://example.org/1", null, null, null));
+    }
+
+    @Test
+    void indexesTheWholeOfLongSummaries() throws IOException {
+        String longSummary = "Tenancy dispute over rent arrears. ".repeat(100) + "Adverse possession was not proved.";
+        CaseLawSearch search = search(dir.resolve("index"), CORPUS
+                + "{\"caseName\":\"Long judgment\",\"summary\":\"" + longSummary + "\"}\n");
+
+        assertThat(longSummary.length()).isGreaterThan(MessageNormalizer.MAX_LENGTH);
+        assertThat(names(search.search(normalize("adverse possession"), List.of()))).containsExactly("Long judgment");
+    }
+
+    private CaseLawSearch search(Path index) throws IOException {
+        return search(index, CORPUS);
+    }
+
+    private CaseLawSearch search(Path index, String content) throws IOException {
+        Path corpus = dir.resolve("corpus.jsonl");
+        Files.writeString(corpus, content);
+        return new CaseLawSearch(new PathMatchingResourcePatternResolver(), true,
+                new String[]{corpus.toUri().toString()}, index, 3, 1.0f, 0.6f);
+    }
+
+    private static String normalize(String message) {
+        return MessageNormalizer.normalize(message);
+    }
+
+    private static List<String> names(CaseLawResult result) {
+        return result.getCases().stream().map(LegalCaseSuggestion::getCaseName).toList();
+    }
+}
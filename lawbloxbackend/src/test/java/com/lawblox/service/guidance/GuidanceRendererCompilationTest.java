@@ -0,0 +1,164 @@
+package com.lawblox.service.guidance;
+
+import com.lawblox.model.KeywordSet;
+import com.lawblox.model.LegalDomain;
+import com.lawblox.service.LegalChatService;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class GuidanceRendererCompilationTest {
+
+    // HotSpot defaults: methods above HugeMethodLimit are never compiled,
+    // hot callees above FreqInlineSize are never inlined
+    private static final int HUGE_METHOD_LIMIT = 8000;
+    private static final int FREQ_INLINE_SIZE = 325;
+
+    private static final int C2_LEVEL = 4;
+
+    @Test
+    void rendererMethodsStayInlinable() throws IOException {
+        for (DomainGuidanceRenderer renderer : GuidanceRenderers.all().values()) {
+            Map<String, Integer> codeLengths = codeLengths(renderer.getClass());
+            assertThat(codeLengths).isNotEmpty();
+            codeLengths.forEach((method, length) -> assertThat(length)
+                    .as("%s.%s bytecode size", renderer.getClass().getSimpleName(), method)
+                    .isLessThanOrEqualTo(FREQ_INLINE_SIZE));
+        }
+    }
+
+    @Test
+    void chatServiceHasNoHugeMethods() throws IOException {
+        codeLengths(LegalChatService.class).forEach((method, length) -> assertThat(length)
+                .as("LegalChatService.%s bytecode size", method)
+                .isLessThan(HUGE_METHOD_LIMIT));
+    }
+
+    /**
+     * Depends on the JIT and the machine, so it is opt-in:
+     * mvn test -Dtest=GuidanceRendererCompilationTest -Dlawblox.jit-tests=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "lawblox.jit-tests", matches = "true")
+    void hotRenderersReachC2() throws InterruptedException {
+        assumeTrue(c2Available(), "C2 is disabled in this JVM (-Xint or TieredStopAtLevel < 4)");
+
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        GuidanceRenderers.all().values().forEach(renderer -> pending.add(renderer.getClass().getName()));
+
+        long selected = 0;  // consumed below so the render calls aren't dead code
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable("jdk.Compilation").withThreshold(Duration.ZERO);
+            stream.onEvent("jdk.Compilation", event -> {
+                RecordedMethod method = event.getValue("method");
+                if (event.getInt("compileLevel") == C2_LEVEL && "render".equals(method.getName())) {
+                    pending.remove(method.getType().getName());
+                }
+            });
+            stream.startAsync();
+
+            List<KeywordSet> keywordSets = Stream.of(
+                    List.<String>of(), List.of("eviction"), List.of("FIR"), List.of("divorce"), List.of("privacy"),
+                    List.of("refund"), List.of("salary"), List.of("negligence"), List.of("patent"),
+                    List.of("NGT"), List.of("UPI fraud"), List.of("GST")).map(KeywordSet::of).toList();
+            long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+            int round = 0;
+            while (!pending.isEmpty() && System.nanoTime() < deadline) {
+                KeywordSet keywords = keywordSets.get(round++ % keywordSets.size());
+                for (LegalDomain domain : GuidanceRenderers.all().keySet()) {
+                    selected += GuidanceRenderers.render(domain, keywords).getText().length();
+                }
+                if (round % 10_000 == 0) {
+                    Thread.sleep(10); // give the compiler threads room to finish
+                }
+            }
+        }
+
+        assertThat(selected).isPositive();
+        assertThat(pending).as("renderers without a C2 compilation of render()").isEmpty();
+    }
+
+    private static boolean c2Available() {
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        if (hotSpot == null || !Boolean.parseBoolean(hotSpot.getVMOption("UseCompiler").getValue())) {
+            return false;
+        }
+        return !Boolean.parseBoolean(hotSpot.getVMOption("TieredCompilation").getValue())
+                || Integer.parseInt(hotSpot.getVMOption("TieredStopAtLevel").getValue()) >= C2_LEVEL;
+    }
+
+    /**
+     * Minimal class file reader returning the Code attribute length of every method
+     */
+    private static Map<String, Integer> codeLengths(Class<?> type) throws IOException {
+        Map<String, Integer> lengths = new TreeMap<>();
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class");
+             DataInputStream data = new DataInputStream(Objects.requireNonNull(in))) {
+            data.skipBytes(8); // magic, minor and major version
+            int poolCount = data.readUnsignedShort();
+            String[] utf8 = new String[poolCount];
+            for (int i = 1; i < poolCount; i++) {
+                int tag = data.readUnsignedByte();
+                switch (tag) {
+                    case 1 -> utf8[i] = data.readUTF();
+                    case 7, 8, 16, 19, 20 -> data.skipBytes(2);
+                    case 15 -> data.skipBytes(3);
+                    case 3, 4, 9, 10, 11, 12, 17, 18 -> data.skipBytes(4);
+                    case 5, 6 -> {
+                        data.skipBytes(8);
+                        i++; // long and double take two slots
+                    }
+                    default -> throw new IllegalStateException("Unknown constant pool tag " + tag);
+                }
+            }
+            data.skipBytes(6); // access flags, this class, super class
+            data.skipBytes(2 * data.readUnsignedShort()); // interfaces
+            int fieldCount = data.readUnsignedShort();
+            for (int i = 0; i < fieldCount; i++) {
+                data.skipBytes(6);
+                skipAttributes(data);
+            }
+            int methodCount = data.readUnsignedShort();
+            for (int i = 0; i < methodCount; i++) {
+                data.skipBytes(2);
+                String name = utf8[data.readUnsignedShort()];
+                data.skipBytes(2);
+                int attributeCount = data.readUnsignedShort();
+                for (int a = 0; a < attributeCount; a++) {
+                    String attribute = utf8[data.readUnsignedShort()];
+                    int length = data.readInt();
+                    if ("Code".equals(attribute)) {
+                        data.skipBytes(4); // max stack, max locals
+                        lengths.merge(name, data.readInt(), Math::max);
+                        data.skipBytes(length - 8);
+                    } else {
+                        data.skipBytes(length);
+                    }
+                }
+            }
+        }
+        return lengths;
+    }
+
+    private static void skipAttributes(DataInputStream data) throws IOException {
+        int count = data.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            data.skipBytes(2);
+            data.skipBytes(data.readInt());
+        }
+    }
+}